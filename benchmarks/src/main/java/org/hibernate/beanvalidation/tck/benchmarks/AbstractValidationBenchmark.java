@@ -0,0 +1,61 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for the benchmarks, bootstrapping the provider under test once per trial.
+ * <p>
+ * As for the TCK tests, the provider is selected using the {@code validation.provider} system property (see
+ * {@link TestUtil#getValidationProviderUnderTest()}).
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractValidationBenchmark {
+
+	protected ValidatorFactory validatorFactory;
+
+	protected Validator validator;
+
+	protected ExecutableValidator executableValidator;
+
+	@Setup(Level.Trial)
+	public void setUpValidator() {
+		validatorFactory = TestUtil.getNewValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+		executableValidator = validator.forExecutables();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeValidatorFactory() {
+		validatorFactory.close();
+	}
+
+	/**
+	 * Makes sure a scenario behaves as expected before measuring it, a benchmark of a broken scenario being
+	 * meaningless.
+	 */
+	protected static void assertViolationCount(String scenario, Set<? extends ConstraintViolation<?>> violations, int expectedCount) {
+		if ( violations.size() != expectedCount ) {
+			throw new IllegalStateException(
+					"Scenario " + scenario + " should raise " + expectedCount + " violations but raised " + violations.size() + ": " + violations
+			);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Java sources generated by a benchmark when setting up its trial, for models whose size is a parameter of the
+ * benchmark. The sources are written to a temporary directory, compiled against the class path of the benchmark and
+ * loaded by a dedicated class loader.
+ */
+public final class GeneratedSources implements AutoCloseable {
+
+	private final String packageName;
+
+	private final Path directory;
+
+	private final Path packageDirectory;
+
+	private final List<Path> sources = new ArrayList<>();
+
+	private URLClassLoader classLoader;
+
+	/**
+	 * @param packageName the package of the generated types
+	 */
+	public GeneratedSources(String packageName) throws IOException {
+		this.packageName = packageName;
+		this.directory = Files.createTempDirectory( "generated-sources" );
+		this.packageDirectory = Files.createDirectories( directory.resolve( packageName.replace( '.', '/' ) ) );
+	}
+
+	/**
+	 * @return a writer for the source of the given type, the package declaration being already written
+	 */
+	public PrintWriter newSource(String typeName) throws IOException {
+		Path file = packageDirectory.resolve( typeName + ".java" );
+		sources.add( file );
+		PrintWriter source = new PrintWriter( Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) );
+		source.println( "package " + packageName + ";" );
+		source.println();
+		return source;
+	}
+
+	/**
+	 * Compiles the sources written so far.
+	 */
+	public void compile() throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if ( compiler == null ) {
+			throw new IllegalStateException( "This benchmark generates its model at runtime and must be run with a JDK" );
+		}
+
+		try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, StandardCharsets.UTF_8 ) ) {
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(
+					sources.stream().map( Path::toFile ).collect( Collectors.toList() )
+			);
+			List<String> options = Arrays.asList( "-classpath", System.getProperty( "java.class.path" ), "-nowarn" );
+			if ( !compiler.getTask( null, fileManager, null, options, null, compilationUnits ).call() ) {
+				throw new IllegalStateException( "Unable to compile the generated sources" );
+			}
+		}
+	}
+
+	/**
+	 * @return the given compiled type, initialized
+	 */
+	public Class<?> loadClass(String typeName) throws IOException, ClassNotFoundException {
+		if ( classLoader == null ) {
+			classLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, GeneratedSources.class.getClassLoader() );
+		}
+		return Class.forName( packageName + "." + typeName, true, classLoader );
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( classLoader != null ) {
+			classLoader.close();
+		}
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			files.sorted( Comparator.reverseOrder() ).forEach( file -> file.toFile().delete() );
+		}
+	}
+}
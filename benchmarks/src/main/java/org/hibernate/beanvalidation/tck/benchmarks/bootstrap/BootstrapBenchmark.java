@@ -0,0 +1,285 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Gentleman;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Jacket;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Person;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Suit;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Tailor;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Trousers;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Wardrobe;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Animal;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.AnimalCaretaker;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Child;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Condor;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Elephant;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.GameReserve;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Herd;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.MultiCage;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Parent;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.SingleCage;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Zebra;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Zoo;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold start of the provider under test: bootstrap of a validator factory, and bootstrap followed by a first
+ * validation, each measured once in a new JVM.
+ * <p>
+ * Unlike the other benchmarks, this benchmark does not extend
+ * {@link org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark} as the provider must not be
+ * bootstrapped before the measurement. Each measurement is done in its own fork, the score being the average over the
+ * forks. The scenarios are:
+ * <ul>
+ * <li>{@code NO_VALIDATION_XML}: bootstrap without any {@code META-INF/validation.xml},</li>
+ * <li>{@code LARGE_VALIDATION_XML}: bootstrap with a {@code META-INF/validation.xml} referencing a constraint mapping
+ * file per bean of the graph navigation and traversable resolver test models, each mapping file constraining all the
+ * fields of its bean,</li>
+ * <li>{@code MANY_VALUE_EXTRACTORS}: bootstrap registering value extractors for 15 JDK types.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class BootstrapBenchmark {
+
+	private static final Class<?>[] MAPPED_BEANS = {
+			Address.class,
+			Animal.class,
+			AnimalCaretaker.class,
+			Child.class,
+			Condor.class,
+			Elephant.class,
+			GameReserve.class,
+			Herd.class,
+			MultiCage.class,
+			Order.class,
+			OrderLine.class,
+			Parent.class,
+			SingleCage.class,
+			User.class,
+			Zebra.class,
+			Zoo.class,
+			Gentleman.class,
+			Jacket.class,
+			Person.class,
+			Suit.class,
+			Tailor.class,
+			Trousers.class,
+			Wardrobe.class
+	};
+
+	public enum Scenario {
+		NO_VALIDATION_XML,
+		LARGE_VALIDATION_XML,
+		MANY_VALUE_EXTRACTORS
+	}
+
+	@Param({ "NO_VALIDATION_XML", "LARGE_VALIDATION_XML", "MANY_VALUE_EXTRACTORS" })
+	private Scenario scenario;
+
+	private Path configurationDirectory;
+
+	private ClassLoader bootstrapClassLoader;
+
+	private ValidatorFactory validatorFactory;
+
+	private Set<? extends ConstraintViolation<?>> violations;
+
+	@Setup(Level.Trial)
+	public void setUpClassLoader() throws IOException {
+		ClassLoader classLoader = BootstrapBenchmark.class.getClassLoader();
+		if ( classLoader.getResource( "META-INF/validation.xml" ) != null ) {
+			throw new IllegalStateException( "The classpath of the benchmarks must not contain any META-INF/validation.xml" );
+		}
+
+		if ( scenario == Scenario.LARGE_VALIDATION_XML ) {
+			configurationDirectory = Files.createTempDirectory( "bootstrap-benchmark" );
+			writeValidationXml( configurationDirectory );
+			bootstrapClassLoader = new URLClassLoader( new URL[] { configurationDirectory.toUri().toURL() }, classLoader );
+		}
+		else {
+			bootstrapClassLoader = classLoader;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void checkAndClose() throws IOException {
+		try {
+			if ( violations != null && violations.size() != getExpectedViolationCount() ) {
+				throw new IllegalStateException(
+						"Scenario " + scenario + " should raise " + getExpectedViolationCount() + " violations but raised " + violations.size() + ": " + violations
+				);
+			}
+		}
+		finally {
+			if ( validatorFactory != null ) {
+				validatorFactory.close();
+			}
+			if ( configurationDirectory != null ) {
+				try ( Stream<Path> files = Files.walk( configurationDirectory ) ) {
+					files.sorted( Comparator.reverseOrder() ).forEach( file -> file.toFile().delete() );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public ValidatorFactory buildValidatorFactory() {
+		validatorFactory = bootstrap();
+		return validatorFactory;
+	}
+
+	@Benchmark
+	public Set<? extends ConstraintViolation<?>> buildValidatorFactoryAndValidate() {
+		validatorFactory = bootstrap();
+		if ( scenario == Scenario.MANY_VALUE_EXTRACTORS ) {
+			violations = validatorFactory.getValidator().validate( new ReferenceHolder() );
+		}
+		else {
+			violations = validatorFactory.getValidator().validate( createOrder() );
+		}
+		return violations;
+	}
+
+	private ValidatorFactory bootstrap() {
+		Thread currentThread = Thread.currentThread();
+		ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+		currentThread.setContextClassLoader( bootstrapClassLoader );
+		try {
+			Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+			if ( scenario == Scenario.MANY_VALUE_EXTRACTORS ) {
+				for ( ValueExtractor<?> valueExtractor : JdkTypeValueExtractors.createAll() ) {
+					configuration.addValueExtractor( valueExtractor );
+				}
+			}
+			return configuration.buildValidatorFactory();
+		}
+		finally {
+			currentThread.setContextClassLoader( originalClassLoader );
+		}
+	}
+
+	private int getExpectedViolationCount() {
+		switch ( scenario ) {
+			case NO_VALIDATION_XML:
+				// the last name of the customer
+				return 1;
+			case LARGE_VALIDATION_XML:
+				// the annotations are ignored, the shipping and billing addresses must not be null
+				return 2;
+			default:
+				// the reference and the element of the deque
+				return 2;
+		}
+	}
+
+	private static Order createOrder() {
+		Order order = new Order( 1 );
+		order.setCustomer( new User( "John", null ) );
+		return order;
+	}
+
+	private static void writeValidationXml(Path directory) throws IOException {
+		Path metaInf = Files.createDirectories( directory.resolve( "META-INF" ) );
+		try ( PrintWriter validationXml = new PrintWriter( Files.newBufferedWriter( metaInf.resolve( "validation.xml" ), StandardCharsets.UTF_8 ) ) ) {
+			validationXml.println( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" );
+			validationXml.println( "<validation-config xmlns=\"https://jakarta.ee/xml/ns/validation/configuration\"" );
+			validationXml.println( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" );
+			validationXml.println( "        xsi:schemaLocation=\"https://jakarta.ee/xml/ns/validation/configuration validation-configuration-3.0.xsd\"" );
+			validationXml.println( "        version=\"3.0\">" );
+			for ( Class<?> bean : MAPPED_BEANS ) {
+				String mappingFile = "mappings/" + bean.getSimpleName() + "-constraints.xml";
+				writeConstraintMapping( directory.resolve( mappingFile ), bean );
+				validationXml.println( "    <constraint-mapping>" + mappingFile + "</constraint-mapping>" );
+			}
+			validationXml.println( "</validation-config>" );
+		}
+	}
+
+	/**
+	 * Writes a constraint mapping ignoring the annotations of the given bean and adding a {@code @NotNull} constraint
+	 * to each of its fields.
+	 */
+	private static void writeConstraintMapping(Path file, Class<?> bean) throws IOException {
+		Files.createDirectories( file.getParent() );
+		try ( PrintWriter mapping = new PrintWriter( Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) ) ) {
+			mapping.println( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" );
+			mapping.println( "<constraint-mappings xmlns=\"https://jakarta.ee/xml/ns/validation/mapping\"" );
+			mapping.println( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" );
+			mapping.println( "        xsi:schemaLocation=\"https://jakarta.ee/xml/ns/validation/mapping validation-mapping-3.0.xsd\"" );
+			mapping.println( "        version=\"3.0\">" );
+			mapping.println( "    <bean class=\"" + bean.getName() + "\" ignore-annotations=\"true\">" );
+			for ( Field field : bean.getDeclaredFields() ) {
+				if ( Modifier.isStatic( field.getModifiers() ) || field.isSynthetic() ) {
+					continue;
+				}
+				mapping.println( "        <field name=\"" + field.getName() + "\">" );
+				mapping.println( "            <constraint annotation=\"" + NotNull.class.getName() + "\"/>" );
+				mapping.println( "        </field>" );
+			}
+			mapping.println( "    </bean>" );
+			mapping.println( "</constraint-mappings>" );
+		}
+	}
+
+	private static class ReferenceHolder {
+
+		private final AtomicReference<@NotNull String> name = new AtomicReference<>();
+
+		private final Deque<@Size(min = 1) String> nicknames = new ArrayDeque<>();
+
+		private ReferenceHolder() {
+			nicknames.add( "" );
+		}
+	}
+}
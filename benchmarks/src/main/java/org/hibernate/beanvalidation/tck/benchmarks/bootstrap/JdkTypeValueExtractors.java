@@ -0,0 +1,195 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+/**
+ * Value extractors for JDK types not supported out of the box, registered by the bootstrap benchmark to measure the
+ * cost of many value extractor registrations.
+ */
+final class JdkTypeValueExtractors {
+
+	private JdkTypeValueExtractors() {
+	}
+
+	/**
+	 * @return new instances of all the value extractors
+	 */
+	static List<ValueExtractor<?>> createAll() {
+		return Arrays.asList(
+				new AtomicReferenceValueExtractor(),
+				new AtomicStampedReferenceValueExtractor(),
+				new AtomicMarkableReferenceValueExtractor(),
+				new AtomicReferenceArrayValueExtractor(),
+				new WeakReferenceValueExtractor(),
+				new SoftReferenceValueExtractor(),
+				new ThreadLocalValueExtractor(),
+				new CompletableFutureValueExtractor(),
+				new ConcurrentMapKeyValueExtractor(),
+				new ConcurrentMapValueValueExtractor(),
+				new SortedMapKeyValueExtractor(),
+				new SortedMapValueValueExtractor(),
+				new NavigableSetValueExtractor(),
+				new DequeValueExtractor(),
+				new QueueValueExtractor()
+		);
+	}
+
+	static class AtomicReferenceValueExtractor implements ValueExtractor<AtomicReference<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(AtomicReference<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.get() );
+		}
+	}
+
+	static class AtomicStampedReferenceValueExtractor implements ValueExtractor<AtomicStampedReference<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(AtomicStampedReference<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.getReference() );
+		}
+	}
+
+	static class AtomicMarkableReferenceValueExtractor implements ValueExtractor<AtomicMarkableReference<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(AtomicMarkableReference<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.getReference() );
+		}
+	}
+
+	static class AtomicReferenceArrayValueExtractor implements ValueExtractor<AtomicReferenceArray<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(AtomicReferenceArray<?> originalValue, ValueReceiver receiver) {
+			for ( int i = 0; i < originalValue.length(); i++ ) {
+				receiver.indexedValue( "<element>", i, originalValue.get( i ) );
+			}
+		}
+	}
+
+	static class WeakReferenceValueExtractor implements ValueExtractor<WeakReference<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(WeakReference<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.get() );
+		}
+	}
+
+	static class SoftReferenceValueExtractor implements ValueExtractor<SoftReference<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(SoftReference<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.get() );
+		}
+	}
+
+	static class ThreadLocalValueExtractor implements ValueExtractor<ThreadLocal<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(ThreadLocal<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.get() );
+		}
+	}
+
+	static class CompletableFutureValueExtractor implements ValueExtractor<CompletableFuture<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(CompletableFuture<?> originalValue, ValueReceiver receiver) {
+			receiver.value( null, originalValue.getNow( null ) );
+		}
+	}
+
+	static class ConcurrentMapKeyValueExtractor implements ValueExtractor<ConcurrentMap<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(ConcurrentMap<?, ?> originalValue, ValueReceiver receiver) {
+			for ( Object key : originalValue.keySet() ) {
+				receiver.keyedValue( "<map key>", key, key );
+			}
+		}
+	}
+
+	static class ConcurrentMapValueValueExtractor implements ValueExtractor<ConcurrentMap<?, @ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(ConcurrentMap<?, ?> originalValue, ValueReceiver receiver) {
+			for ( Map.Entry<?, ?> entry : originalValue.entrySet() ) {
+				receiver.keyedValue( "<map value>", entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	static class SortedMapKeyValueExtractor implements ValueExtractor<SortedMap<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(SortedMap<?, ?> originalValue, ValueReceiver receiver) {
+			for ( Object key : originalValue.keySet() ) {
+				receiver.keyedValue( "<map key>", key, key );
+			}
+		}
+	}
+
+	static class SortedMapValueValueExtractor implements ValueExtractor<SortedMap<?, @ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(SortedMap<?, ?> originalValue, ValueReceiver receiver) {
+			for ( Map.Entry<?, ?> entry : originalValue.entrySet() ) {
+				receiver.keyedValue( "<map value>", entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	static class NavigableSetValueExtractor implements ValueExtractor<NavigableSet<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(NavigableSet<?> originalValue, ValueReceiver receiver) {
+			for ( Object element : originalValue ) {
+				receiver.iterableValue( "<iterable element>", element );
+			}
+		}
+	}
+
+	static class DequeValueExtractor implements ValueExtractor<Deque<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(Deque<?> originalValue, ValueReceiver receiver) {
+			for ( Object element : originalValue ) {
+				receiver.iterableValue( "<iterable element>", element );
+			}
+		}
+	}
+
+	static class QueueValueExtractor implements ValueExtractor<Queue<@ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(Queue<?> originalValue, ValueReceiver receiver) {
+			for ( Object element : originalValue ) {
+				receiver.iterableValue( "<iterable element>", element );
+			}
+		}
+	}
+}
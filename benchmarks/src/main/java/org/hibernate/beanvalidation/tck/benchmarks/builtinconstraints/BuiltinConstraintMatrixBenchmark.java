@@ -0,0 +1,103 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.benchmarks.GeneratedSources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a value against each built-in constraint, for each type the constraint supports (see
+ * {@link ConstraintTypePair}), with a value satisfying the constraint or violating it.
+ * <p>
+ * For each pair, a bean with a single property of the type, annotated with the constraint, is generated and compiled
+ * when setting up the trial, and the values are validated with
+ * {@link jakarta.validation.Validator#validateValue(Class, String, Object, Class[])}, so that only the constraint
+ * validator of the pair and the creation of the violation are measured. The results give a throughput per pair, and,
+ * with the {@code -prof gc} option of JMH, the bytes allocated per validation ({@code gc.alloc.rate.norm}), e.g.
+ * to spot the constraint validators allocating when the value is valid.
+ * <p>
+ * All the pairs are benchmarked by default, which takes a while; a subset is benchmarked with the {@code -p} option of
+ * JMH, e.g. {@code -p pair=SIZE_STRING,SIZE_COLLECTION}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuiltinConstraintMatrixBenchmark extends AbstractValidationBenchmark {
+
+	private static final String PACKAGE = BuiltinConstraintMatrixBenchmark.class.getPackage().getName() + ".generated";
+
+	private static final String PROPERTY = "value";
+
+	/**
+	 * No value given, so all the pairs are benchmarked.
+	 */
+	@Param
+	private ConstraintTypePair pair;
+
+	private GeneratedSources sources;
+
+	private Class<Object> beanClass;
+
+	private Object validValue;
+
+	private Object invalidValue;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void generateBean() throws Exception {
+		sources = new GeneratedSources( PACKAGE );
+		try ( PrintWriter source = sources.newSource( "ConstrainedBean" ) ) {
+			source.println( "public class ConstrainedBean {" );
+			source.println( "\t" + pair.getAnnotation() );
+			source.println( "\tprivate " + pair.getType() + " " + PROPERTY + ";" );
+			source.println( "}" );
+		}
+		sources.compile();
+		beanClass = (Class<Object>) sources.loadClass( "ConstrainedBean" );
+
+		validValue = pair.getValidValue();
+		invalidValue = pair.getInvalidValue();
+
+		assertViolationCount( "validateValidValue[" + pair + "]", validateValidValue(), 0 );
+		assertViolationCount( "validateInvalidValue[" + pair + "]", validateInvalidValue(), 1 );
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteBean() throws IOException {
+		sources.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validateValidValue() {
+		return validator.validateValue( beanClass, PROPERTY, validValue );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validateInvalidValue() {
+		return validator.validateValue( beanClass, PROPERTY, invalidValue );
+	}
+}
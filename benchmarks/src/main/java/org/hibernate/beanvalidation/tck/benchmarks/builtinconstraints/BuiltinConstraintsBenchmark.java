@@ -0,0 +1,86 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a bean using the built-in constraints, with all of them satisfied or all of them violated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BuiltinConstraintsBenchmark extends AbstractValidationBenchmark {
+
+	private BuiltinConstraintsEntity validEntity;
+
+	private BuiltinConstraintsEntity invalidEntity;
+
+	@Setup(Level.Trial)
+	public void setUpEntities() {
+		LocalDate today = LocalDate.now();
+
+		validEntity = new BuiltinConstraintsEntity(
+				"Emmanuel",
+				"emmanuel@example.com",
+				"75001",
+				42,
+				new BigDecimal( "1234.56" ),
+				100L,
+				today.minusYears( 42 ),
+				today.plusYears( 1 ),
+				Arrays.asList( "admin", "user" ),
+				true
+		);
+		invalidEntity = new BuiltinConstraintsEntity(
+				"E",
+				"emmanuel at example.com",
+				"F-75001",
+				12,
+				new BigDecimal( "123456.789" ),
+				0L,
+				today.plusYears( 1 ),
+				today.minusYears( 1 ),
+				Collections.emptyList(),
+				false
+		);
+
+		assertViolationCount( "validateValidEntity", validateValidEntity(), 0 );
+		// the balance violates both @DecimalMax and @Digits
+		assertViolationCount( "validateInvalidEntity", validateInvalidEntity(), 11 );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintsEntity>> validateValidEntity() {
+		return validator.validate( validEntity );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<BuiltinConstraintsEntity>> validateInvalidEntity() {
+		return validator.validate( invalidEntity );
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * An entity using the built-in constraints on their most common types, similar to the dummy entities of the
+ * {@code org.hibernate.beanvalidation.tck.tests.constraints.builtinconstraints} tests which are private to them.
+ */
+public class BuiltinConstraintsEntity {
+
+	@NotNull
+	@Size(min = 2, max = 20)
+	private String name;
+
+	@NotBlank
+	@Email
+	private String email;
+
+	@Pattern(regexp = "[0-9]{5}")
+	private String zipCode;
+
+	@Min(18)
+	@Max(150)
+	private int age;
+
+	@DecimalMin("0.00")
+	@DecimalMax("10000.00")
+	@Digits(integer = 5, fraction = 2)
+	private BigDecimal balance;
+
+	@Positive
+	private long loyaltyPoints;
+
+	@Past
+	private LocalDate dateOfBirth;
+
+	@Future
+	private LocalDate membershipExpiration;
+
+	@NotEmpty
+	private List<String> roles;
+
+	@AssertTrue
+	private boolean active;
+
+	public BuiltinConstraintsEntity(String name, String email, String zipCode, int age, BigDecimal balance,
+			long loyaltyPoints, LocalDate dateOfBirth, LocalDate membershipExpiration, List<String> roles,
+			boolean active) {
+		this.name = name;
+		this.email = email;
+		this.zipCode = zipCode;
+		this.age = age;
+		this.balance = balance;
+		this.loyaltyPoints = loyaltyPoints;
+		this.dateOfBirth = dateOfBirth;
+		this.membershipExpiration = membershipExpiration;
+		this.roles = roles;
+		this.active = active;
+	}
+}
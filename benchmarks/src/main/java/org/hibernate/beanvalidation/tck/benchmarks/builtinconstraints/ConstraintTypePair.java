@@ -0,0 +1,424 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.builtinconstraints;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.chrono.HijrahDate;
+import java.time.chrono.JapaneseDate;
+import java.time.chrono.MinguoDate;
+import java.time.chrono.ThaiBuddhistDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The pairs of a built-in constraint and of a type it supports, benchmarked by {@link BuiltinConstraintMatrixBenchmark}.
+ * <p>
+ * The supported types are the ones required by the specification for each constraint, as tested by the TCK, including
+ * the wrapper types of the primitive types and, for the constraints supporting {@code CharSequence}, a
+ * {@code StringBuilder} as an implementation other than {@code String}. The temporal types whose values wrap around
+ * ({@code LocalTime}, {@code OffsetTime} and {@code MonthDay}) are left out, as a value in the past or in the future
+ * cannot be built reliably for them.
+ */
+public enum ConstraintTypePair {
+
+	// @AssertTrue/@AssertFalse
+	ASSERT_TRUE_BOOLEAN( Constraint.ASSERT_TRUE, ValueType.BOOLEAN ),
+	ASSERT_FALSE_BOOLEAN( Constraint.ASSERT_FALSE, ValueType.BOOLEAN ),
+	ASSERT_TRUE_BOOLEAN_WRAPPER( Constraint.ASSERT_TRUE, ValueType.BOOLEAN_WRAPPER ),
+	ASSERT_FALSE_BOOLEAN_WRAPPER( Constraint.ASSERT_FALSE, ValueType.BOOLEAN_WRAPPER ),
+
+	// @Min/@Max
+	MIN_BIG_DECIMAL( Constraint.MIN, ValueType.BIG_DECIMAL ),
+	MIN_BIG_INTEGER( Constraint.MIN, ValueType.BIG_INTEGER ),
+	MIN_BYTE( Constraint.MIN, ValueType.BYTE ),
+	MIN_SHORT( Constraint.MIN, ValueType.SHORT ),
+	MIN_INT( Constraint.MIN, ValueType.INT ),
+	MIN_LONG( Constraint.MIN, ValueType.LONG ),
+	MIN_BYTE_WRAPPER( Constraint.MIN, ValueType.BYTE_WRAPPER ),
+	MIN_SHORT_WRAPPER( Constraint.MIN, ValueType.SHORT_WRAPPER ),
+	MIN_INTEGER_WRAPPER( Constraint.MIN, ValueType.INTEGER_WRAPPER ),
+	MIN_LONG_WRAPPER( Constraint.MIN, ValueType.LONG_WRAPPER ),
+	MAX_BIG_DECIMAL( Constraint.MAX, ValueType.BIG_DECIMAL ),
+	MAX_BIG_INTEGER( Constraint.MAX, ValueType.BIG_INTEGER ),
+	MAX_BYTE( Constraint.MAX, ValueType.BYTE ),
+	MAX_SHORT( Constraint.MAX, ValueType.SHORT ),
+	MAX_INT( Constraint.MAX, ValueType.INT ),
+	MAX_LONG( Constraint.MAX, ValueType.LONG ),
+	MAX_BYTE_WRAPPER( Constraint.MAX, ValueType.BYTE_WRAPPER ),
+	MAX_SHORT_WRAPPER( Constraint.MAX, ValueType.SHORT_WRAPPER ),
+	MAX_INTEGER_WRAPPER( Constraint.MAX, ValueType.INTEGER_WRAPPER ),
+	MAX_LONG_WRAPPER( Constraint.MAX, ValueType.LONG_WRAPPER ),
+
+	// @DecimalMin/@DecimalMax
+	DECIMAL_MIN_BIG_DECIMAL( Constraint.DECIMAL_MIN, ValueType.BIG_DECIMAL ),
+	DECIMAL_MIN_BIG_INTEGER( Constraint.DECIMAL_MIN, ValueType.BIG_INTEGER ),
+	DECIMAL_MIN_STRING( Constraint.DECIMAL_MIN, ValueType.STRING ),
+	DECIMAL_MIN_STRING_BUILDER( Constraint.DECIMAL_MIN, ValueType.STRING_BUILDER ),
+	DECIMAL_MIN_BYTE( Constraint.DECIMAL_MIN, ValueType.BYTE ),
+	DECIMAL_MIN_SHORT( Constraint.DECIMAL_MIN, ValueType.SHORT ),
+	DECIMAL_MIN_INT( Constraint.DECIMAL_MIN, ValueType.INT ),
+	DECIMAL_MIN_LONG( Constraint.DECIMAL_MIN, ValueType.LONG ),
+	DECIMAL_MIN_BYTE_WRAPPER( Constraint.DECIMAL_MIN, ValueType.BYTE_WRAPPER ),
+	DECIMAL_MIN_SHORT_WRAPPER( Constraint.DECIMAL_MIN, ValueType.SHORT_WRAPPER ),
+	DECIMAL_MIN_INTEGER_WRAPPER( Constraint.DECIMAL_MIN, ValueType.INTEGER_WRAPPER ),
+	DECIMAL_MIN_LONG_WRAPPER( Constraint.DECIMAL_MIN, ValueType.LONG_WRAPPER ),
+	DECIMAL_MAX_BIG_DECIMAL( Constraint.DECIMAL_MAX, ValueType.BIG_DECIMAL ),
+	DECIMAL_MAX_BIG_INTEGER( Constraint.DECIMAL_MAX, ValueType.BIG_INTEGER ),
+	DECIMAL_MAX_STRING( Constraint.DECIMAL_MAX, ValueType.STRING ),
+	DECIMAL_MAX_STRING_BUILDER( Constraint.DECIMAL_MAX, ValueType.STRING_BUILDER ),
+	DECIMAL_MAX_BYTE( Constraint.DECIMAL_MAX, ValueType.BYTE ),
+	DECIMAL_MAX_SHORT( Constraint.DECIMAL_MAX, ValueType.SHORT ),
+	DECIMAL_MAX_INT( Constraint.DECIMAL_MAX, ValueType.INT ),
+	DECIMAL_MAX_LONG( Constraint.DECIMAL_MAX, ValueType.LONG ),
+	DECIMAL_MAX_BYTE_WRAPPER( Constraint.DECIMAL_MAX, ValueType.BYTE_WRAPPER ),
+	DECIMAL_MAX_SHORT_WRAPPER( Constraint.DECIMAL_MAX, ValueType.SHORT_WRAPPER ),
+	DECIMAL_MAX_INTEGER_WRAPPER( Constraint.DECIMAL_MAX, ValueType.INTEGER_WRAPPER ),
+	DECIMAL_MAX_LONG_WRAPPER( Constraint.DECIMAL_MAX, ValueType.LONG_WRAPPER ),
+
+	// @Digits
+	DIGITS_BIG_DECIMAL( Constraint.DIGITS, ValueType.BIG_DECIMAL ),
+	DIGITS_BIG_INTEGER( Constraint.DIGITS, ValueType.BIG_INTEGER ),
+	DIGITS_STRING( Constraint.DIGITS, ValueType.STRING ),
+	DIGITS_STRING_BUILDER( Constraint.DIGITS, ValueType.STRING_BUILDER ),
+	DIGITS_BYTE( Constraint.DIGITS, ValueType.BYTE ),
+	DIGITS_SHORT( Constraint.DIGITS, ValueType.SHORT ),
+	DIGITS_INT( Constraint.DIGITS, ValueType.INT ),
+	DIGITS_LONG( Constraint.DIGITS, ValueType.LONG ),
+	DIGITS_BYTE_WRAPPER( Constraint.DIGITS, ValueType.BYTE_WRAPPER ),
+	DIGITS_SHORT_WRAPPER( Constraint.DIGITS, ValueType.SHORT_WRAPPER ),
+	DIGITS_INTEGER_WRAPPER( Constraint.DIGITS, ValueType.INTEGER_WRAPPER ),
+	DIGITS_LONG_WRAPPER( Constraint.DIGITS, ValueType.LONG_WRAPPER ),
+
+	// @Negative/@NegativeOrZero/@Positive/@PositiveOrZero
+	NEGATIVE_BIG_DECIMAL( Constraint.NEGATIVE, ValueType.BIG_DECIMAL ),
+	NEGATIVE_BIG_INTEGER( Constraint.NEGATIVE, ValueType.BIG_INTEGER ),
+	NEGATIVE_BYTE( Constraint.NEGATIVE, ValueType.BYTE ),
+	NEGATIVE_SHORT( Constraint.NEGATIVE, ValueType.SHORT ),
+	NEGATIVE_INT( Constraint.NEGATIVE, ValueType.INT ),
+	NEGATIVE_LONG( Constraint.NEGATIVE, ValueType.LONG ),
+	NEGATIVE_FLOAT( Constraint.NEGATIVE, ValueType.FLOAT ),
+	NEGATIVE_DOUBLE( Constraint.NEGATIVE, ValueType.DOUBLE ),
+	NEGATIVE_BYTE_WRAPPER( Constraint.NEGATIVE, ValueType.BYTE_WRAPPER ),
+	NEGATIVE_SHORT_WRAPPER( Constraint.NEGATIVE, ValueType.SHORT_WRAPPER ),
+	NEGATIVE_INTEGER_WRAPPER( Constraint.NEGATIVE, ValueType.INTEGER_WRAPPER ),
+	NEGATIVE_LONG_WRAPPER( Constraint.NEGATIVE, ValueType.LONG_WRAPPER ),
+	NEGATIVE_FLOAT_WRAPPER( Constraint.NEGATIVE, ValueType.FLOAT_WRAPPER ),
+	NEGATIVE_DOUBLE_WRAPPER( Constraint.NEGATIVE, ValueType.DOUBLE_WRAPPER ),
+	NEGATIVE_OR_ZERO_BIG_DECIMAL( Constraint.NEGATIVE_OR_ZERO, ValueType.BIG_DECIMAL ),
+	NEGATIVE_OR_ZERO_BIG_INTEGER( Constraint.NEGATIVE_OR_ZERO, ValueType.BIG_INTEGER ),
+	NEGATIVE_OR_ZERO_BYTE( Constraint.NEGATIVE_OR_ZERO, ValueType.BYTE ),
+	NEGATIVE_OR_ZERO_SHORT( Constraint.NEGATIVE_OR_ZERO, ValueType.SHORT ),
+	NEGATIVE_OR_ZERO_INT( Constraint.NEGATIVE_OR_ZERO, ValueType.INT ),
+	NEGATIVE_OR_ZERO_LONG( Constraint.NEGATIVE_OR_ZERO, ValueType.LONG ),
+	NEGATIVE_OR_ZERO_FLOAT( Constraint.NEGATIVE_OR_ZERO, ValueType.FLOAT ),
+	NEGATIVE_OR_ZERO_DOUBLE( Constraint.NEGATIVE_OR_ZERO, ValueType.DOUBLE ),
+	NEGATIVE_OR_ZERO_BYTE_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.BYTE_WRAPPER ),
+	NEGATIVE_OR_ZERO_SHORT_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.SHORT_WRAPPER ),
+	NEGATIVE_OR_ZERO_INTEGER_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.INTEGER_WRAPPER ),
+	NEGATIVE_OR_ZERO_LONG_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.LONG_WRAPPER ),
+	NEGATIVE_OR_ZERO_FLOAT_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.FLOAT_WRAPPER ),
+	NEGATIVE_OR_ZERO_DOUBLE_WRAPPER( Constraint.NEGATIVE_OR_ZERO, ValueType.DOUBLE_WRAPPER ),
+	POSITIVE_BIG_DECIMAL( Constraint.POSITIVE, ValueType.BIG_DECIMAL ),
+	POSITIVE_BIG_INTEGER( Constraint.POSITIVE, ValueType.BIG_INTEGER ),
+	POSITIVE_BYTE( Constraint.POSITIVE, ValueType.BYTE ),
+	POSITIVE_SHORT( Constraint.POSITIVE, ValueType.SHORT ),
+	POSITIVE_INT( Constraint.POSITIVE, ValueType.INT ),
+	POSITIVE_LONG( Constraint.POSITIVE, ValueType.LONG ),
+	POSITIVE_FLOAT( Constraint.POSITIVE, ValueType.FLOAT ),
+	POSITIVE_DOUBLE( Constraint.POSITIVE, ValueType.DOUBLE ),
+	POSITIVE_BYTE_WRAPPER( Constraint.POSITIVE, ValueType.BYTE_WRAPPER ),
+	POSITIVE_SHORT_WRAPPER( Constraint.POSITIVE, ValueType.SHORT_WRAPPER ),
+	POSITIVE_INTEGER_WRAPPER( Constraint.POSITIVE, ValueType.INTEGER_WRAPPER ),
+	POSITIVE_LONG_WRAPPER( Constraint.POSITIVE, ValueType.LONG_WRAPPER ),
+	POSITIVE_FLOAT_WRAPPER( Constraint.POSITIVE, ValueType.FLOAT_WRAPPER ),
+	POSITIVE_DOUBLE_WRAPPER( Constraint.POSITIVE, ValueType.DOUBLE_WRAPPER ),
+	POSITIVE_OR_ZERO_BIG_DECIMAL( Constraint.POSITIVE_OR_ZERO, ValueType.BIG_DECIMAL ),
+	POSITIVE_OR_ZERO_BIG_INTEGER( Constraint.POSITIVE_OR_ZERO, ValueType.BIG_INTEGER ),
+	POSITIVE_OR_ZERO_BYTE( Constraint.POSITIVE_OR_ZERO, ValueType.BYTE ),
+	POSITIVE_OR_ZERO_SHORT( Constraint.POSITIVE_OR_ZERO, ValueType.SHORT ),
+	POSITIVE_OR_ZERO_INT( Constraint.POSITIVE_OR_ZERO, ValueType.INT ),
+	POSITIVE_OR_ZERO_LONG( Constraint.POSITIVE_OR_ZERO, ValueType.LONG ),
+	POSITIVE_OR_ZERO_FLOAT( Constraint.POSITIVE_OR_ZERO, ValueType.FLOAT ),
+	POSITIVE_OR_ZERO_DOUBLE( Constraint.POSITIVE_OR_ZERO, ValueType.DOUBLE ),
+	POSITIVE_OR_ZERO_BYTE_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.BYTE_WRAPPER ),
+	POSITIVE_OR_ZERO_SHORT_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.SHORT_WRAPPER ),
+	POSITIVE_OR_ZERO_INTEGER_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.INTEGER_WRAPPER ),
+	POSITIVE_OR_ZERO_LONG_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.LONG_WRAPPER ),
+	POSITIVE_OR_ZERO_FLOAT_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.FLOAT_WRAPPER ),
+	POSITIVE_OR_ZERO_DOUBLE_WRAPPER( Constraint.POSITIVE_OR_ZERO, ValueType.DOUBLE_WRAPPER ),
+
+	// @Size/@NotEmpty
+	SIZE_STRING( Constraint.SIZE, ValueType.STRING ),
+	SIZE_STRING_BUILDER( Constraint.SIZE, ValueType.STRING_BUILDER ),
+	SIZE_COLLECTION( Constraint.SIZE, ValueType.COLLECTION ),
+	SIZE_MAP( Constraint.SIZE, ValueType.MAP ),
+	SIZE_OBJECT_ARRAY( Constraint.SIZE, ValueType.OBJECT_ARRAY ),
+	SIZE_BOOLEAN_ARRAY( Constraint.SIZE, ValueType.BOOLEAN_ARRAY ),
+	SIZE_BYTE_ARRAY( Constraint.SIZE, ValueType.BYTE_ARRAY ),
+	SIZE_CHAR_ARRAY( Constraint.SIZE, ValueType.CHAR_ARRAY ),
+	SIZE_DOUBLE_ARRAY( Constraint.SIZE, ValueType.DOUBLE_ARRAY ),
+	SIZE_FLOAT_ARRAY( Constraint.SIZE, ValueType.FLOAT_ARRAY ),
+	SIZE_INT_ARRAY( Constraint.SIZE, ValueType.INT_ARRAY ),
+	SIZE_LONG_ARRAY( Constraint.SIZE, ValueType.LONG_ARRAY ),
+	SIZE_SHORT_ARRAY( Constraint.SIZE, ValueType.SHORT_ARRAY ),
+	NOT_EMPTY_STRING( Constraint.NOT_EMPTY, ValueType.STRING ),
+	NOT_EMPTY_STRING_BUILDER( Constraint.NOT_EMPTY, ValueType.STRING_BUILDER ),
+	NOT_EMPTY_COLLECTION( Constraint.NOT_EMPTY, ValueType.COLLECTION ),
+	NOT_EMPTY_MAP( Constraint.NOT_EMPTY, ValueType.MAP ),
+	NOT_EMPTY_OBJECT_ARRAY( Constraint.NOT_EMPTY, ValueType.OBJECT_ARRAY ),
+	NOT_EMPTY_BOOLEAN_ARRAY( Constraint.NOT_EMPTY, ValueType.BOOLEAN_ARRAY ),
+	NOT_EMPTY_BYTE_ARRAY( Constraint.NOT_EMPTY, ValueType.BYTE_ARRAY ),
+	NOT_EMPTY_CHAR_ARRAY( Constraint.NOT_EMPTY, ValueType.CHAR_ARRAY ),
+	NOT_EMPTY_DOUBLE_ARRAY( Constraint.NOT_EMPTY, ValueType.DOUBLE_ARRAY ),
+	NOT_EMPTY_FLOAT_ARRAY( Constraint.NOT_EMPTY, ValueType.FLOAT_ARRAY ),
+	NOT_EMPTY_INT_ARRAY( Constraint.NOT_EMPTY, ValueType.INT_ARRAY ),
+	NOT_EMPTY_LONG_ARRAY( Constraint.NOT_EMPTY, ValueType.LONG_ARRAY ),
+	NOT_EMPTY_SHORT_ARRAY( Constraint.NOT_EMPTY, ValueType.SHORT_ARRAY ),
+
+	// @NotBlank/@Pattern/@Email
+	NOT_BLANK_STRING( Constraint.NOT_BLANK, ValueType.STRING ),
+	NOT_BLANK_STRING_BUILDER( Constraint.NOT_BLANK, ValueType.STRING_BUILDER ),
+	PATTERN_STRING( Constraint.PATTERN, ValueType.STRING ),
+	PATTERN_STRING_BUILDER( Constraint.PATTERN, ValueType.STRING_BUILDER ),
+	EMAIL_STRING( Constraint.EMAIL, ValueType.STRING ),
+	EMAIL_STRING_BUILDER( Constraint.EMAIL, ValueType.STRING_BUILDER ),
+
+	// @Past/@PastOrPresent/@Future/@FutureOrPresent
+	PAST_CALENDAR( Constraint.PAST, ValueType.CALENDAR ),
+	PAST_DATE( Constraint.PAST, ValueType.DATE ),
+	PAST_INSTANT( Constraint.PAST, ValueType.INSTANT ),
+	PAST_LOCAL_DATE( Constraint.PAST, ValueType.LOCAL_DATE ),
+	PAST_LOCAL_DATE_TIME( Constraint.PAST, ValueType.LOCAL_DATE_TIME ),
+	PAST_OFFSET_DATE_TIME( Constraint.PAST, ValueType.OFFSET_DATE_TIME ),
+	PAST_ZONED_DATE_TIME( Constraint.PAST, ValueType.ZONED_DATE_TIME ),
+	PAST_YEAR( Constraint.PAST, ValueType.YEAR ),
+	PAST_YEAR_MONTH( Constraint.PAST, ValueType.YEAR_MONTH ),
+	PAST_HIJRAH_DATE( Constraint.PAST, ValueType.HIJRAH_DATE ),
+	PAST_JAPANESE_DATE( Constraint.PAST, ValueType.JAPANESE_DATE ),
+	PAST_MINGUO_DATE( Constraint.PAST, ValueType.MINGUO_DATE ),
+	PAST_THAI_BUDDHIST_DATE( Constraint.PAST, ValueType.THAI_BUDDHIST_DATE ),
+	PAST_OR_PRESENT_CALENDAR( Constraint.PAST_OR_PRESENT, ValueType.CALENDAR ),
+	PAST_OR_PRESENT_DATE( Constraint.PAST_OR_PRESENT, ValueType.DATE ),
+	PAST_OR_PRESENT_INSTANT( Constraint.PAST_OR_PRESENT, ValueType.INSTANT ),
+	PAST_OR_PRESENT_LOCAL_DATE( Constraint.PAST_OR_PRESENT, ValueType.LOCAL_DATE ),
+	PAST_OR_PRESENT_LOCAL_DATE_TIME( Constraint.PAST_OR_PRESENT, ValueType.LOCAL_DATE_TIME ),
+	PAST_OR_PRESENT_OFFSET_DATE_TIME( Constraint.PAST_OR_PRESENT, ValueType.OFFSET_DATE_TIME ),
+	PAST_OR_PRESENT_ZONED_DATE_TIME( Constraint.PAST_OR_PRESENT, ValueType.ZONED_DATE_TIME ),
+	PAST_OR_PRESENT_YEAR( Constraint.PAST_OR_PRESENT, ValueType.YEAR ),
+	PAST_OR_PRESENT_YEAR_MONTH( Constraint.PAST_OR_PRESENT, ValueType.YEAR_MONTH ),
+	PAST_OR_PRESENT_HIJRAH_DATE( Constraint.PAST_OR_PRESENT, ValueType.HIJRAH_DATE ),
+	PAST_OR_PRESENT_JAPANESE_DATE( Constraint.PAST_OR_PRESENT, ValueType.JAPANESE_DATE ),
+	PAST_OR_PRESENT_MINGUO_DATE( Constraint.PAST_OR_PRESENT, ValueType.MINGUO_DATE ),
+	PAST_OR_PRESENT_THAI_BUDDHIST_DATE( Constraint.PAST_OR_PRESENT, ValueType.THAI_BUDDHIST_DATE ),
+	FUTURE_CALENDAR( Constraint.FUTURE, ValueType.CALENDAR ),
+	FUTURE_DATE( Constraint.FUTURE, ValueType.DATE ),
+	FUTURE_INSTANT( Constraint.FUTURE, ValueType.INSTANT ),
+	FUTURE_LOCAL_DATE( Constraint.FUTURE, ValueType.LOCAL_DATE ),
+	FUTURE_LOCAL_DATE_TIME( Constraint.FUTURE, ValueType.LOCAL_DATE_TIME ),
+	FUTURE_OFFSET_DATE_TIME( Constraint.FUTURE, ValueType.OFFSET_DATE_TIME ),
+	FUTURE_ZONED_DATE_TIME( Constraint.FUTURE, ValueType.ZONED_DATE_TIME ),
+	FUTURE_YEAR( Constraint.FUTURE, ValueType.YEAR ),
+	FUTURE_YEAR_MONTH( Constraint.FUTURE, ValueType.YEAR_MONTH ),
+	FUTURE_HIJRAH_DATE( Constraint.FUTURE, ValueType.HIJRAH_DATE ),
+	FUTURE_JAPANESE_DATE( Constraint.FUTURE, ValueType.JAPANESE_DATE ),
+	FUTURE_MINGUO_DATE( Constraint.FUTURE, ValueType.MINGUO_DATE ),
+	FUTURE_THAI_BUDDHIST_DATE( Constraint.FUTURE, ValueType.THAI_BUDDHIST_DATE ),
+	FUTURE_OR_PRESENT_CALENDAR( Constraint.FUTURE_OR_PRESENT, ValueType.CALENDAR ),
+	FUTURE_OR_PRESENT_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.DATE ),
+	FUTURE_OR_PRESENT_INSTANT( Constraint.FUTURE_OR_PRESENT, ValueType.INSTANT ),
+	FUTURE_OR_PRESENT_LOCAL_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.LOCAL_DATE ),
+	FUTURE_OR_PRESENT_LOCAL_DATE_TIME( Constraint.FUTURE_OR_PRESENT, ValueType.LOCAL_DATE_TIME ),
+	FUTURE_OR_PRESENT_OFFSET_DATE_TIME( Constraint.FUTURE_OR_PRESENT, ValueType.OFFSET_DATE_TIME ),
+	FUTURE_OR_PRESENT_ZONED_DATE_TIME( Constraint.FUTURE_OR_PRESENT, ValueType.ZONED_DATE_TIME ),
+	FUTURE_OR_PRESENT_YEAR( Constraint.FUTURE_OR_PRESENT, ValueType.YEAR ),
+	FUTURE_OR_PRESENT_YEAR_MONTH( Constraint.FUTURE_OR_PRESENT, ValueType.YEAR_MONTH ),
+	FUTURE_OR_PRESENT_HIJRAH_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.HIJRAH_DATE ),
+	FUTURE_OR_PRESENT_JAPANESE_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.JAPANESE_DATE ),
+	FUTURE_OR_PRESENT_MINGUO_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.MINGUO_DATE ),
+	FUTURE_OR_PRESENT_THAI_BUDDHIST_DATE( Constraint.FUTURE_OR_PRESENT, ValueType.THAI_BUDDHIST_DATE );
+
+	private final Constraint constraint;
+
+	private final ValueType type;
+
+	ConstraintTypePair(Constraint constraint, ValueType type) {
+		this.constraint = constraint;
+		this.type = type;
+	}
+
+	/**
+	 * @return the constraint, as an annotation of the generated source
+	 */
+	String getAnnotation() {
+		return constraint.annotation;
+	}
+
+	/**
+	 * @return the type, as a type of the generated source
+	 */
+	String getType() {
+		return type.source;
+	}
+
+	/**
+	 * @return a value of the type satisfying the constraint
+	 */
+	Object getValidValue() {
+		return type.converter.apply( constraint.validSample );
+	}
+
+	/**
+	 * @return a value of the type violating the constraint
+	 */
+	Object getInvalidValue() {
+		return type.converter.apply( constraint.invalidSample );
+	}
+
+	/**
+	 * The built-in constraints with a sample of a value satisfying them and of a value violating them, converted to
+	 * the benchmarked type by {@link ValueType}. Depending on the constraint, a sample is a {@code Boolean}, a
+	 * {@code Long} for the numbers, a {@code Period} from now for the temporal values, an {@code Integer} for the size
+	 * of the strings, collections, maps and arrays, or a {@code String}.
+	 */
+	enum Constraint {
+		ASSERT_TRUE( "AssertTrue", true, false ),
+		ASSERT_FALSE( "AssertFalse", false, true ),
+		MIN( "Min(10)", 42L, 5L ),
+		MAX( "Max(100)", 42L, 120L ),
+		DECIMAL_MIN( "DecimalMin(\"10.5\")", 42L, 5L ),
+		DECIMAL_MAX( "DecimalMax(\"100.5\")", 42L, 120L ),
+		DIGITS( "Digits(integer = 2, fraction = 2)", 42L, 120L ),
+		NEGATIVE( "Negative", -42L, 42L ),
+		NEGATIVE_OR_ZERO( "NegativeOrZero", -42L, 42L ),
+		POSITIVE( "Positive", 42L, -42L ),
+		POSITIVE_OR_ZERO( "PositiveOrZero", 42L, -42L ),
+		SIZE( "Size(min = 2, max = 10)", 5, 1 ),
+		NOT_EMPTY( "NotEmpty", 5, 0 ),
+		NOT_BLANK( "NotBlank", "text", "   " ),
+		PATTERN( "Pattern(regexp = \"[0-9]{5}\")", "75001", "F-75001" ),
+		EMAIL( "Email", "emmanuel@example.com", "emmanuel at example.com" ),
+		PAST( "Past", Period.ofYears( -1 ), Period.ofYears( 1 ) ),
+		PAST_OR_PRESENT( "PastOrPresent", Period.ofYears( -1 ), Period.ofYears( 1 ) ),
+		FUTURE( "Future", Period.ofYears( 1 ), Period.ofYears( -1 ) ),
+		FUTURE_OR_PRESENT( "FutureOrPresent", Period.ofYears( 1 ), Period.ofYears( -1 ) );
+
+		private final String annotation;
+
+		private final Object validSample;
+
+		private final Object invalidSample;
+
+		Constraint(String annotation, Object validSample, Object invalidSample) {
+			this.annotation = "@jakarta.validation.constraints." + annotation;
+			this.validSample = validSample;
+			this.invalidSample = invalidSample;
+		}
+	}
+
+	/**
+	 * The supported types, converting the samples of the constraints to values of the type.
+	 */
+	enum ValueType {
+		BOOLEAN( "boolean", sample -> sample ),
+		BOOLEAN_WRAPPER( "Boolean", sample -> sample ),
+		BIG_DECIMAL( "java.math.BigDecimal", sample -> BigDecimal.valueOf( (Long) sample ) ),
+		BIG_INTEGER( "java.math.BigInteger", sample -> BigInteger.valueOf( (Long) sample ) ),
+		BYTE( "byte", sample -> ( (Long) sample ).byteValue() ),
+		SHORT( "short", sample -> ( (Long) sample ).shortValue() ),
+		INT( "int", sample -> ( (Long) sample ).intValue() ),
+		LONG( "long", sample -> sample ),
+		FLOAT( "float", sample -> ( (Long) sample ).floatValue() ),
+		DOUBLE( "double", sample -> ( (Long) sample ).doubleValue() ),
+		BYTE_WRAPPER( "Byte", sample -> ( (Long) sample ).byteValue() ),
+		SHORT_WRAPPER( "Short", sample -> ( (Long) sample ).shortValue() ),
+		INTEGER_WRAPPER( "Integer", sample -> ( (Long) sample ).intValue() ),
+		LONG_WRAPPER( "Long", sample -> sample ),
+		FLOAT_WRAPPER( "Float", sample -> ( (Long) sample ).floatValue() ),
+		DOUBLE_WRAPPER( "Double", sample -> ( (Long) sample ).doubleValue() ),
+		STRING( "String", ValueType::toText ),
+		STRING_BUILDER( "StringBuilder", sample -> new StringBuilder( toText( sample ) ) ),
+		COLLECTION( "java.util.Collection<String>", sample -> newList( (Integer) sample ) ),
+		MAP( "java.util.Map<String, String>", sample -> newMap( (Integer) sample ) ),
+		OBJECT_ARRAY( "Object[]", sample -> newList( (Integer) sample ).toArray() ),
+		BOOLEAN_ARRAY( "boolean[]", sample -> new boolean[(Integer) sample] ),
+		BYTE_ARRAY( "byte[]", sample -> new byte[(Integer) sample] ),
+		CHAR_ARRAY( "char[]", sample -> new char[(Integer) sample] ),
+		DOUBLE_ARRAY( "double[]", sample -> new double[(Integer) sample] ),
+		FLOAT_ARRAY( "float[]", sample -> new float[(Integer) sample] ),
+		INT_ARRAY( "int[]", sample -> new int[(Integer) sample] ),
+		LONG_ARRAY( "long[]", sample -> new long[(Integer) sample] ),
+		SHORT_ARRAY( "short[]", sample -> new short[(Integer) sample] ),
+		CALENDAR( "java.util.Calendar", sample -> {
+			Calendar calendar = Calendar.getInstance();
+			calendar.add( Calendar.YEAR, ( (Period) sample ).getYears() );
+			return calendar;
+		} ),
+		DATE( "java.util.Date", sample -> Date.from( ZonedDateTime.now().plus( (Period) sample ).toInstant() ) ),
+		INSTANT( "java.time.Instant", sample -> ZonedDateTime.now().plus( (Period) sample ).toInstant() ),
+		LOCAL_DATE( "java.time.LocalDate", sample -> LocalDate.now().plus( (Period) sample ) ),
+		LOCAL_DATE_TIME( "java.time.LocalDateTime", sample -> LocalDateTime.now().plus( (Period) sample ) ),
+		OFFSET_DATE_TIME( "java.time.OffsetDateTime", sample -> OffsetDateTime.now().plus( (Period) sample ) ),
+		ZONED_DATE_TIME( "java.time.ZonedDateTime", sample -> ZonedDateTime.now().plus( (Period) sample ) ),
+		YEAR( "java.time.Year", sample -> Year.now().plus( (Period) sample ) ),
+		YEAR_MONTH( "java.time.YearMonth", sample -> YearMonth.now().plus( (Period) sample ) ),
+		HIJRAH_DATE( "java.time.chrono.HijrahDate", sample -> HijrahDate.now().plus( ( (Period) sample ).getYears(), ChronoUnit.YEARS ) ),
+		JAPANESE_DATE( "java.time.chrono.JapaneseDate", sample -> JapaneseDate.now().plus( ( (Period) sample ).getYears(), ChronoUnit.YEARS ) ),
+		MINGUO_DATE( "java.time.chrono.MinguoDate", sample -> MinguoDate.now().plus( ( (Period) sample ).getYears(), ChronoUnit.YEARS ) ),
+		THAI_BUDDHIST_DATE( "java.time.chrono.ThaiBuddhistDate", sample -> ThaiBuddhistDate.now().plus( ( (Period) sample ).getYears(), ChronoUnit.YEARS ) );
+
+		private final String source;
+
+		private final Function<Object, Object> converter;
+
+		ValueType(String source, Function<Object, Object> converter) {
+			this.source = source;
+			this.converter = converter;
+		}
+
+		/**
+		 * A string is constrained either as a number, by its size or by its content.
+		 */
+		private static String toText(Object sample) {
+			if ( sample instanceof Integer ) {
+				return String.join( "", Collections.nCopies( (Integer) sample, "a" ) );
+			}
+			return String.valueOf( sample );
+		}
+
+		private static List<String> newList(int size) {
+			List<String> list = new ArrayList<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				list.add( "element" + i );
+			}
+			return list;
+		}
+
+		private static Map<String, String> newMap(int size) {
+			Map<String, String> map = new HashMap<>();
+			for ( int i = 0; i < size; i++ ) {
+				map.put( "key" + i, "value" + i );
+			}
+			return map;
+		}
+	}
+}
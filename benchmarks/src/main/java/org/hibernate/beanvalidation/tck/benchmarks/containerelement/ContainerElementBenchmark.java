@@ -0,0 +1,324 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.containerelement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of container element constraints on containers of 10^3 to 10^6 elements: lists, sets, maps with
+ * constrained keys and cascaded values, lists of optionals and nested containers. All the elements are valid, the
+ * measured cost being the one of the value extraction and of the validation of the elements.
+ * <p>
+ * Each container is only built for the benchmark using it. Besides the average time per validation, the
+ * {@code elements} secondary result gives the average time per element. The allocation rate, and the allocated bytes
+ * per element by dividing {@code gc.alloc.rate.norm} by the {@code elements} parameter, are given by the GC profiler
+ * (JMH option {@code -prof gc}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ContainerElementBenchmark extends AbstractValidationBenchmark {
+
+	private static final int NESTED_CONTAINER_SIZE = 10;
+
+	@Param({ "1000", "100000", "1000000" })
+	private int elements;
+
+	@Benchmark
+	public Set<ConstraintViolation<ListHolder>> validateList(ListState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SetHolder>> validateSet(SetState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<MapHolder>> validateMap(MapState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OptionalListHolder>> validateListOfOptionals(OptionalListState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<NestedListHolder>> validateNestedLists(NestedListState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<NestedMapHolder>> validateMapOfLists(NestedMapState state, ElementCounter elementCounter) {
+		elementCounter.elements += elements;
+		return validator.validate( state.holder );
+	}
+
+	private static String name(int index) {
+		return "name-" + index;
+	}
+
+	@State(Scope.Benchmark)
+	public static class ListState {
+
+		private ListHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			List<String> names = new ArrayList<>( benchmark.elements );
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				names.add( name( i ) );
+			}
+			holder = new ListHolder( names );
+
+			assertViolationCount( "validateList", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateList", benchmark.validator.validate( new ListHolder( invalidNames() ) ), 2 );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class SetState {
+
+		private SetHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			Set<String> names = new HashSet<>( benchmark.elements * 2 );
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				names.add( name( i ) );
+			}
+			holder = new SetHolder( names );
+
+			assertViolationCount( "validateSet", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateSet", benchmark.validator.validate( new SetHolder( new HashSet<>( invalidNames() ) ) ), 2 );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class MapState {
+
+		private MapHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			Map<String, Item> items = new HashMap<>( benchmark.elements * 2 );
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				items.put( name( i ), new Item( name( i ) ) );
+			}
+			holder = new MapHolder( items );
+
+			Map<String, Item> invalidItems = new HashMap<>();
+			invalidItems.put( " ", new Item( "blank key" ) );
+			invalidItems.put( "null name", new Item( null ) );
+
+			assertViolationCount( "validateMap", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateMap", benchmark.validator.validate( new MapHolder( invalidItems ) ), 2 );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class OptionalListState {
+
+		private OptionalListHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			List<Optional<String>> nicknames = new ArrayList<>( benchmark.elements );
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				// every other optional is empty
+				nicknames.add( i % 2 == 0 ? Optional.of( name( i ) ) : Optional.empty() );
+			}
+			holder = new OptionalListHolder( nicknames );
+
+			List<Optional<String>> invalidNicknames = new ArrayList<>();
+			invalidNicknames.add( Optional.of( "a nickname much too long to be valid" ) );
+			invalidNicknames.add( Optional.empty() );
+
+			assertViolationCount( "validateListOfOptionals", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateListOfOptionals", benchmark.validator.validate( new OptionalListHolder( invalidNicknames ) ), 1 );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class NestedListState {
+
+		private NestedListHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			List<List<String>> names = new ArrayList<>( benchmark.elements / NESTED_CONTAINER_SIZE );
+			List<String> innerNames = null;
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				if ( i % NESTED_CONTAINER_SIZE == 0 ) {
+					innerNames = new ArrayList<>( NESTED_CONTAINER_SIZE );
+					names.add( innerNames );
+				}
+				innerNames.add( name( i ) );
+			}
+			holder = new NestedListHolder( names );
+
+			List<List<String>> invalidNames = new ArrayList<>();
+			invalidNames.add( invalidNames() );
+
+			assertViolationCount( "validateNestedLists", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateNestedLists", benchmark.validator.validate( new NestedListHolder( invalidNames ) ), 2 );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class NestedMapState {
+
+		private NestedMapHolder holder;
+
+		@Setup(Level.Trial)
+		public void setUp(ContainerElementBenchmark benchmark) {
+			Map<String, List<Item>> items = new HashMap<>( benchmark.elements / NESTED_CONTAINER_SIZE * 2 );
+			List<Item> innerItems = null;
+			for ( int i = 0; i < benchmark.elements; i++ ) {
+				if ( i % NESTED_CONTAINER_SIZE == 0 ) {
+					innerItems = new ArrayList<>( NESTED_CONTAINER_SIZE );
+					items.put( name( i ), innerItems );
+				}
+				innerItems.add( new Item( name( i ) ) );
+			}
+			holder = new NestedMapHolder( items );
+
+			Map<String, List<Item>> invalidItems = new HashMap<>();
+			List<Item> invalidInnerItems = new ArrayList<>();
+			invalidInnerItems.add( new Item( null ) );
+			invalidInnerItems.add( null );
+			invalidItems.put( "", invalidInnerItems );
+
+			assertViolationCount( "validateMapOfLists", benchmark.validator.validate( holder ), 0 );
+			assertViolationCount( "validateMapOfLists", benchmark.validator.validate( new NestedMapHolder( invalidItems ) ), 3 );
+		}
+	}
+
+	private static List<String> invalidNames() {
+		List<String> names = new ArrayList<>();
+		names.add( null );
+		names.add( "" );
+		names.add( name( 0 ) );
+		return names;
+	}
+
+	/**
+	 * Counts the validated elements, reported as the average time per element.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class ElementCounter {
+
+		public long elements;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			elements = 0;
+		}
+	}
+
+	public static class ListHolder {
+
+		private final List<@NotNull @Size(min = 1, max = 20) String> names;
+
+		public ListHolder(List<String> names) {
+			this.names = names;
+		}
+	}
+
+	public static class SetHolder {
+
+		private final Set<@NotNull @Size(min = 1, max = 20) String> names;
+
+		public SetHolder(Set<String> names) {
+			this.names = names;
+		}
+	}
+
+	public static class MapHolder {
+
+		private final Map<@NotBlank String, @Valid Item> items;
+
+		public MapHolder(Map<String, Item> items) {
+			this.items = items;
+		}
+	}
+
+	public static class OptionalListHolder {
+
+		private final List<Optional<@Size(max = 20) String>> nicknames;
+
+		public OptionalListHolder(List<Optional<String>> nicknames) {
+			this.nicknames = nicknames;
+		}
+	}
+
+	public static class NestedListHolder {
+
+		private final List<List<@NotNull @Size(min = 1, max = 20) String>> names;
+
+		public NestedListHolder(List<List<String>> names) {
+			this.names = names;
+		}
+	}
+
+	public static class NestedMapHolder {
+
+		private final Map<@NotBlank String, List<@NotNull @Valid Item>> items;
+
+		public NestedMapHolder(Map<String, List<Item>> items) {
+			this.items = items;
+		}
+	}
+
+	public static class Item {
+
+		@NotNull
+		@Size(min = 1, max = 20)
+		private final String name;
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cascaded validation of the order graph used by
+ * {@link org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.GraphNavigationTest}, including its cycles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GraphNavigationBenchmark extends AbstractValidationBenchmark {
+
+	private Order validOrder;
+
+	private Order invalidOrder;
+
+	private User user;
+
+	@Setup(Level.Trial)
+	public void setUpGraph() {
+		validOrder = createOrder( "Bob", "Main Street 1", 10 );
+
+		// the customer has no last name, their address line is too long and two order lines have no article number; the
+		// customer is reached through three different paths and their violations are reported for each of them
+		invalidOrder = createOrder( null, "Rue de la Grande Armée, 1er étage, bâtiment B", 10 );
+		invalidOrder.getOrderLines().get( 3 ).setArticleNumber( null );
+		invalidOrder.getOrderLines().get( 7 ).setArticleNumber( null );
+
+		user = validOrder.getCustomer();
+
+		assertViolationCount( "validateValidGraph", validateValidGraph(), 0 );
+		assertViolationCount( "validateInvalidGraph", validateInvalidGraph(), 8 );
+		assertViolationCount( "validateProperty", validateProperty(), 0 );
+		assertViolationCount( "validateValue", validateValue(), 1 );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateValidGraph() {
+		return validator.validate( validOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateInvalidGraph() {
+		return validator.validate( invalidOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateProperty() {
+		return validator.validateProperty( user, "lastName" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Address>> validateValue() {
+		return validator.validateValue( Address.class, "city", "Llanfairpwllgwyngyllgogerychwyrndrobwllllantysiliogogogoch" );
+	}
+
+	private static Order createOrder(String lastName, String addressLine, int orderLineCount) {
+		User customer = new User( "John", lastName );
+		User friend = new User( "Jane", "Doe" );
+		customer.knows( friend );
+		friend.knows( customer );
+
+		Address shippingAddress = new Address( addressLine, "12345", "Springfield" );
+		shippingAddress.setInhabitant( customer );
+		customer.addAddress( shippingAddress );
+
+		Address billingAddress = new Address( "PO Box 42", "12345", "Springfield" );
+		billingAddress.setInhabitant( friend );
+		friend.addAddress( billingAddress );
+
+		Order order = new Order( 1 );
+		order.setCustomer( customer );
+		order.setShippingAddress( shippingAddress );
+		order.setBillingAddress( billingAddress );
+		for ( int i = 0; i < orderLineCount; i++ ) {
+			order.addOrderLine( new OrderLine( order, i ) );
+		}
+
+		return order;
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.graphnavigation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Animal;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Condor;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Elephant;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Zebra;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Zoo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cascaded validation of generated graphs of 10^3 to 10^6 objects built from the model of
+ * {@link org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.GraphNavigationTest}:
+ * <ul>
+ * <li>{@code ZOO}: a zoo whose inhabitants are condors, elephants and zebras, with an additional inhabitant sharing a
+ * reference to a previous one every ten inhabitants,</li>
+ * <li>{@code ORDER}: an order whose order lines all reference the order back, and whose customer is part of a cycle of
+ * users knowing each other, each user living at an address referencing them back.</li>
+ * </ul>
+ * Every hundredth object of the graph violates a constraint, the violations being checked before measuring.
+ * <p>
+ * Besides the average time per validation of the graph, the {@code nodes} secondary result gives the average time per
+ * object of the graph. The allocated bytes per object are given by the {@code gc.alloc.rate.norm} result of the GC
+ * profiler (JMH option {@code -prof gc}) divided by the {@code nodes} parameter: as the memory used to track the
+ * processed objects should grow linearly with the size of the graph, both per object results should not grow with
+ * the {@code nodes} parameter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss16m")
+public class LargeGraphBenchmark extends AbstractValidationBenchmark {
+
+	private static final int INVALID_NODE_INTERVAL = 100;
+
+	private static final int SHARED_INHABITANT_INTERVAL = 10;
+
+	private static final int MAX_USER_CYCLE_LENGTH = 1000;
+
+	public enum Shape {
+		ZOO,
+		ORDER
+	}
+
+	@Param({ "1000", "10000", "100000", "1000000" })
+	private int nodes;
+
+	@Param({ "ZOO", "ORDER" })
+	private Shape shape;
+
+	private Object root;
+
+	@Setup(Level.Trial)
+	public void setUpGraph() {
+		int expectedViolationCount;
+		if ( shape == Shape.ZOO ) {
+			Zoo zoo = new Zoo();
+			expectedViolationCount = populateZoo( zoo );
+			root = zoo;
+		}
+		else {
+			Order order = new Order( 1 );
+			expectedViolationCount = populateOrder( order );
+			root = order;
+		}
+
+		assertViolationCount( "validateGraph[" + shape + ", " + nodes + "]", validator.validate( root ), expectedViolationCount );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validateGraph(NodeCounter nodeCounter) {
+		nodeCounter.nodes += nodes;
+		return validator.validate( root );
+	}
+
+	/**
+	 * Adds {@code nodes - 1} animals to the given zoo, plus an inhabitant sharing a previous animal every ten
+	 * inhabitants.
+	 *
+	 * @return the expected number of violations
+	 */
+	private int populateZoo(Zoo zoo) {
+		List<Animal> animals = new ArrayList<>( nodes - 1 );
+		int violationCount = 0;
+
+		for ( int i = 1; i < nodes; i++ ) {
+			boolean valid = i % INVALID_NODE_INTERVAL != 0;
+			Animal animal = createAnimal( i, valid );
+			animals.add( animal );
+			zoo.addAnimal( animal );
+			violationCount += valid ? 0 : 1;
+
+			if ( i % SHARED_INHABITANT_INTERVAL == 0 ) {
+				// shares a valid animal added before (the animal i being at index i - 1), as the violations of an
+				// object reached through several paths may or may not be reported for each path
+				int shared = i / 2;
+				if ( shared % INVALID_NODE_INTERVAL == 0 ) {
+					shared--;
+				}
+				zoo.addAnimal( animals.get( shared - 1 ) );
+			}
+		}
+
+		return violationCount;
+	}
+
+	private static Animal createAnimal(int index, boolean valid) {
+		switch ( index % 3 ) {
+			case 0:
+				Condor condor = new Condor();
+				condor.setWingspan( valid ? 300 : 200 );
+				return condor;
+			case 1:
+				Elephant elephant = new Elephant();
+				elephant.setWeight( valid ? 5000 : 500 );
+				return elephant;
+			default:
+				return new Zebra( valid ? "Marty" : null );
+		}
+	}
+
+	/**
+	 * Adds a cycle of users and their addresses as customer of the given order and fills the rest of the
+	 * {@code nodes - 1} objects with order lines.
+	 *
+	 * @return the expected number of violations
+	 */
+	private int populateOrder(Order order) {
+		int userCount = Math.min( MAX_USER_CYCLE_LENGTH, nodes / 10 );
+		int orderLineCount = nodes - 1 - 2 * userCount;
+		int violationCount = 0;
+
+		List<User> users = new ArrayList<>( userCount );
+		for ( int i = 0; i < userCount; i++ ) {
+			boolean valid = ( i + 1 ) % INVALID_NODE_INTERVAL != 0;
+			User user = new User( "John", valid ? "Doe" : null );
+			Address address = new Address( "Main Street " + i, "12345", "Springfield" );
+			address.setInhabitant( user );
+			user.addAddress( address );
+			users.add( user );
+			violationCount += valid ? 0 : 1;
+		}
+		for ( int i = 0; i < userCount; i++ ) {
+			users.get( i ).knows( users.get( ( i + 1 ) % userCount ) );
+		}
+		order.setCustomer( users.get( 0 ) );
+
+		for ( int i = 1; i <= orderLineCount; i++ ) {
+			boolean valid = i % INVALID_NODE_INTERVAL != 0;
+			order.addOrderLine( new OrderLine( order, valid ? i : null ) );
+			violationCount += valid ? 0 : 1;
+		}
+
+		return violationCount;
+	}
+
+	/**
+	 * Counts the validated objects, reported as the average time per object of the graph.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class NodeCounter {
+
+		public long nodes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			nodes = 0;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupsequence;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * The value must be greater than or equal to 0, like {@code @Min(0)}, the invocations of the validator being counted
+ * by group of the sequence.
+ */
+@Constraint(validatedBy = { CountedMin.CountedMinValidator.class })
+@Target({ FIELD })
+@Retention(RUNTIME)
+@Documented
+public @interface CountedMin {
+
+	/**
+	 * @return the index of the group of the constraint in the sequence
+	 */
+	int sequenceIndex();
+
+	String message() default "must be greater than or equal to 0";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	class CountedMinValidator implements ConstraintValidator<CountedMin, Integer> {
+
+		private static final AtomicLong invocations = new AtomicLong();
+
+		private static volatile AtomicLongArray invocationsBySequenceIndex = new AtomicLongArray( 0 );
+
+		private int sequenceIndex;
+
+		/**
+		 * Resets the counters for a sequence of the given number of groups.
+		 */
+		public static void reset(int groups) {
+			invocationsBySequenceIndex = new AtomicLongArray( groups );
+			invocations.set( 0 );
+		}
+
+		/**
+		 * @return the number of invocations of the validator since the last reset
+		 */
+		public static long getInvocations() {
+			return invocations.get();
+		}
+
+		/**
+		 * @return the number of invocations of the validator for the constraints of the given group of the sequence
+		 * since the last reset
+		 */
+		public static long getInvocations(int sequenceIndex) {
+			return invocationsBySequenceIndex.get( sequenceIndex );
+		}
+
+		@Override
+		public void initialize(CountedMin constraintAnnotation) {
+			sequenceIndex = constraintAnnotation.sequenceIndex();
+		}
+
+		@Override
+		public boolean isValid(Integer value, ConstraintValidatorContext context) {
+			invocations.incrementAndGet();
+			invocationsBySequenceIndex.incrementAndGet( sequenceIndex );
+			return value == null || value >= 0;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.groupsequence;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.benchmarks.GeneratedSources;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a bean against a sequence of 4 to 64 groups, each group having {@value #PROPERTIES_PER_GROUP}
+ * constrained properties of the bean. The sequence is either:
+ * <ul>
+ * <li>{@code GROUP_SEQUENCE}: an interface annotated with {@code @GroupSequence}, passed to
+ * {@link jakarta.validation.Validator#validate(Object, Class[])},</li>
+ * <li>{@code REDEFINED_DEFAULT}: the redefinition of the default group of the bean, validated against the default
+ * group.</li>
+ * </ul>
+ * The sequence and the bean are generated and compiled when setting up the trial. The properties of the first group
+ * of the sequence ({@code FIRST}), of its last group ({@code LAST}) and of all the groups following them are invalid,
+ * or none of the properties is ({@code NONE}).
+ * <p>
+ * The constraints of the generated beans are {@link CountedMin} constraints, whose validator counts its invocations by
+ * group. As the validation of a sequence stops at its first group raising violations, only the violations of the
+ * first failing group must be reported and no validator of the following groups must be invoked, which is checked
+ * before measuring. Besides the average time per validation, the {@code validatorInvocations} secondary result gives
+ * the average time per counted invocation of the constraint validators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GroupSequenceBenchmark extends AbstractValidationBenchmark {
+
+	private static final int PROPERTIES_PER_GROUP = 10;
+
+	private static final String PACKAGE = GroupSequenceBenchmark.class.getPackage().getName() + ".generated";
+
+	public enum Sequence {
+		GROUP_SEQUENCE,
+		REDEFINED_DEFAULT
+	}
+
+	public enum Failure {
+		FIRST,
+		LAST,
+		NONE
+	}
+
+	@Param({ "4", "16", "64" })
+	private int groups;
+
+	@Param({ "GROUP_SEQUENCE", "REDEFINED_DEFAULT" })
+	private Sequence sequence;
+
+	@Param({ "FIRST", "LAST", "NONE" })
+	private Failure failure;
+
+	private GeneratedSources sources;
+
+	private Object bean;
+
+	private Class<?>[] validationGroups;
+
+	@Setup(Level.Trial)
+	public void generateSequence() throws Exception {
+		sources = new GeneratedSources( PACKAGE );
+		for ( int i = 0; i < groups; i++ ) {
+			try ( PrintWriter source = sources.newSource( "Group" + i ) ) {
+				source.println( "public interface Group" + i + " {" );
+				source.println( "}" );
+			}
+		}
+		try ( PrintWriter source = sources.newSource( "Sequence" ) ) {
+			source.println( "@jakarta.validation.GroupSequence(" + groupList( null ) + ")" );
+			source.println( "public interface Sequence {" );
+			source.println( "}" );
+		}
+		writeBean( "SequencedBean", false );
+		writeBean( "RedefinedDefaultBean", true );
+		sources.compile();
+
+		int firstFailingGroup;
+		switch ( failure ) {
+			case FIRST:
+				firstFailingGroup = 0;
+				break;
+			case LAST:
+				firstFailingGroup = groups - 1;
+				break;
+			default:
+				firstFailingGroup = groups;
+		}
+
+		if ( sequence == Sequence.GROUP_SEQUENCE ) {
+			bean = sources.loadClass( "SequencedBean" ).getConstructor( int.class ).newInstance( firstFailingGroup );
+			validationGroups = new Class<?>[] { sources.loadClass( "Sequence" ) };
+		}
+		else {
+			bean = sources.loadClass( "RedefinedDefaultBean" ).getConstructor( int.class ).newInstance( firstFailingGroup );
+			validationGroups = new Class<?>[0];
+		}
+
+		CountedMin.CountedMinValidator.reset( groups );
+		Set<ConstraintViolation<Object>> violations = validator.validate( bean, validationGroups );
+		String scenario = "validateSequence[" + sequence + ", " + groups + ", " + failure + "]";
+		assertViolationCount( scenario, violations, failure == Failure.NONE ? 0 : PROPERTIES_PER_GROUP );
+		for ( ConstraintViolation<Object> violation : violations ) {
+			if ( !violation.getPropertyPath().toString().startsWith( "group" + firstFailingGroup + "Property" ) ) {
+				throw new IllegalStateException(
+						"Scenario " + scenario + " should only raise violations of the group " + firstFailingGroup + " but raised " + violations
+				);
+			}
+		}
+		for ( int i = 0; i < groups; i++ ) {
+			long invocations = CountedMin.CountedMinValidator.getInvocations( i );
+			long expectedInvocations = i <= firstFailingGroup ? PROPERTIES_PER_GROUP : 0;
+			if ( invocations != expectedInvocations ) {
+				throw new IllegalStateException(
+						"Scenario " + scenario + " should invoke the validators of the group " + i + " " + expectedInvocations + " times but invoked them " + invocations + " times"
+				);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteSequence() throws IOException {
+		sources.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validateSequence(InvocationCounter invocationCounter) {
+		long invocations = CountedMin.CountedMinValidator.getInvocations();
+		Set<ConstraintViolation<Object>> violations = validator.validate( bean, validationGroups );
+		invocationCounter.validatorInvocations += CountedMin.CountedMinValidator.getInvocations() - invocations;
+		return violations;
+	}
+
+	/**
+	 * Writes a bean whose properties of a group are invalid when the group is the first failing one, given to its
+	 * constructor, or a following one.
+	 */
+	private void writeBean(String className, boolean redefineDefaultGroup) throws IOException {
+		try ( PrintWriter source = sources.newSource( className ) ) {
+			if ( redefineDefaultGroup ) {
+				source.println( "@jakarta.validation.GroupSequence(" + groupList( className ) + ")" );
+			}
+			source.println( "public class " + className + " {" );
+			for ( int i = 0; i < groups; i++ ) {
+				for ( int j = 0; j < PROPERTIES_PER_GROUP; j++ ) {
+					source.println( "\t@" + CountedMin.class.getName() + "(sequenceIndex = " + i + ", groups = Group" + i + ".class)" );
+					source.println( "\tprivate final int group" + i + "Property" + j + ";" );
+				}
+			}
+			source.println( "\tpublic " + className + "(int firstFailingGroup) {" );
+			for ( int i = 0; i < groups; i++ ) {
+				for ( int j = 0; j < PROPERTIES_PER_GROUP; j++ ) {
+					source.println( "\t\tgroup" + i + "Property" + j + " = firstFailingGroup <= " + i + " ? -1 : 0;" );
+				}
+			}
+			source.println( "\t}" );
+			source.println( "}" );
+		}
+	}
+
+	/**
+	 * @return the groups of the sequence followed by the given group if not {@code null}, as an annotation array value
+	 */
+	private String groupList(String lastGroup) {
+		StringBuilder groupList = new StringBuilder( "{ " );
+		for ( int i = 0; i < groups; i++ ) {
+			groupList.append( i > 0 ? ", " : "" ).append( "Group" ).append( i ).append( ".class" );
+		}
+		if ( lastGroup != null ) {
+			groupList.append( ", " ).append( lastGroup ).append( ".class" );
+		}
+		return groupList.append( " }" ).toString();
+	}
+
+	/**
+	 * Counts the invocations of the constraint validators, reported as the average time per invocation.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class InvocationCounter {
+
+		public long validatorInvocations;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			validatorInvocations = 0;
+		}
+	}
+}
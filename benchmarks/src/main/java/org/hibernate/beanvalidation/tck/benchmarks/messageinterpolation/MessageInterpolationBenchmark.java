@@ -0,0 +1,198 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Interpolation of constraint messages by the default message interpolator of the provider under test (see
+ * {@link TestUtil#getDefaultMessageInterpolator()}): message parameters only, EL expressions, bundle lookups resolved
+ * recursively and workloads mixing several locales.
+ * <p>
+ * The mixed locale benchmarks cycle through the locales per thread, so running them with several threads (JMH option
+ * {@code -t}) measures the interpolation of several locales concurrently.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MessageInterpolationBenchmark extends AbstractValidationBenchmark {
+
+	private static final String PARAMETERS_TEMPLATE = "size must be between {min} and {max}";
+
+	private static final String EXPRESSION_TEMPLATE = "must be greater than or equal to {value} but is ${validatedValue < value ? 'lower' : 'greater'}";
+
+	private static final String FORMATTER_TEMPLATE = "${formatter.format('%1$.2f', validatedValue)} is too small";
+
+	private static final String RECURSIVE_TEMPLATE = "{org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation.level1}";
+
+	private static final String BUILTIN_TEMPLATE = "{jakarta.validation.constraints.Size.message}";
+
+	private static final Locale[] BUNDLE_LOCALES = { Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH };
+
+	private static final Locale[] MIXED_LOCALES = {
+			Locale.ENGLISH,
+			Locale.GERMAN,
+			Locale.FRENCH,
+			Locale.ITALIAN,
+			Locale.JAPANESE,
+			Locale.KOREAN,
+			Locale.CHINESE,
+			new Locale( "es" ),
+			new Locale( "nl" ),
+			new Locale( "pt", "BR" )
+	};
+
+	private MessageInterpolator interpolator;
+
+	private MessageInterpolator.Context sizeContext;
+
+	private MessageInterpolator.Context minContext;
+
+	private MessageInterpolator.Context decimalContext;
+
+	@Setup(Level.Trial)
+	public void setUpInterpolator() {
+		interpolator = TestUtil.getDefaultMessageInterpolator();
+		sizeContext = new InterpolationContext( getConstraintDescriptor( "name" ), "E" );
+		minContext = new InterpolationContext( getConstraintDescriptor( "quantity" ), 3 );
+		decimalContext = new InterpolationContext( getConstraintDescriptor( "quantity" ), 3.14159 );
+
+		assertMessage( "interpolateParameters", interpolateParameters(), "size must be between 2 and 10" );
+		assertMessage( "interpolateExpression", interpolateExpression(), "must be greater than or equal to 5 but is lower" );
+		assertMessage( "interpolateFormatter", interpolateFormatter(), "3.14 is too small" );
+		assertMessage( "interpolateRecursiveBundleLookup", interpolateRecursiveBundleLookup(), "size must be between 2 and 10" );
+		assertMessage(
+				"interpolateRecursiveBundleLookup",
+				interpolator.interpolate( RECURSIVE_TEMPLATE, sizeContext, Locale.GERMAN ),
+				"Größe muss zwischen 2 und 10 sein"
+		);
+	}
+
+	@Benchmark
+	public String interpolateParameters() {
+		return interpolator.interpolate( PARAMETERS_TEMPLATE, sizeContext, Locale.ENGLISH );
+	}
+
+	@Benchmark
+	public String interpolateExpression() {
+		return interpolator.interpolate( EXPRESSION_TEMPLATE, minContext, Locale.ENGLISH );
+	}
+
+	@Benchmark
+	public String interpolateFormatter() {
+		return interpolator.interpolate( FORMATTER_TEMPLATE, decimalContext, Locale.ENGLISH );
+	}
+
+	@Benchmark
+	public String interpolateRecursiveBundleLookup() {
+		return interpolator.interpolate( RECURSIVE_TEMPLATE, sizeContext, Locale.ENGLISH );
+	}
+
+	@Benchmark
+	public String interpolateBuiltinMessageMixedLocales(LocaleCycle localeCycle) {
+		return interpolator.interpolate( BUILTIN_TEMPLATE, sizeContext, localeCycle.next( MIXED_LOCALES ) );
+	}
+
+	@Benchmark
+	public String interpolateRecursiveBundleLookupMixedLocales(LocaleCycle localeCycle) {
+		return interpolator.interpolate( RECURSIVE_TEMPLATE, sizeContext, localeCycle.next( BUNDLE_LOCALES ) );
+	}
+
+	@Benchmark
+	public String interpolateFormatterMixedLocales(LocaleCycle localeCycle) {
+		return interpolator.interpolate( FORMATTER_TEMPLATE, decimalContext, localeCycle.next( MIXED_LOCALES ) );
+	}
+
+	private ConstraintDescriptor<?> getConstraintDescriptor(String property) {
+		return validator.getConstraintsForClass( InterpolatedEntity.class )
+				.getConstraintsForProperty( property )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	private static void assertMessage(String scenario, String message, String expectedMessage) {
+		if ( !expectedMessage.equals( message ) ) {
+			throw new IllegalStateException(
+					"Scenario " + scenario + " should interpolate \"" + expectedMessage + "\" but interpolated \"" + message + "\""
+			);
+		}
+	}
+
+	/**
+	 * The locale of each interpolation of the mixed locale benchmarks, cycling through the locales independently for
+	 * each thread.
+	 */
+	@State(Scope.Thread)
+	public static class LocaleCycle {
+
+		private int index;
+
+		Locale next(Locale[] locales) {
+			index = ( index + 1 ) % locales.length;
+			return locales[index];
+		}
+	}
+
+	private static class InterpolationContext implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> descriptor;
+
+		private final Object validatedValue;
+
+		private InterpolationContext(ConstraintDescriptor<?> descriptor, Object validatedValue) {
+			this.descriptor = descriptor;
+			this.validatedValue = validatedValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return descriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new UnsupportedOperationException( "Unwrapping is not supported" );
+		}
+	}
+
+	private static class InterpolatedEntity {
+
+		@Size(min = 2, max = 10)
+		private String name;
+
+		@Min(5)
+		private int quantity;
+	}
+}
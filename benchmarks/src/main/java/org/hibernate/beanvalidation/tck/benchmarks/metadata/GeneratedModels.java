@@ -0,0 +1,165 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.metadata;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.beanvalidation.tck.benchmarks.GeneratedSources;
+import org.hibernate.beanvalidation.tck.benchmarks.metadata.MetadataBenchmark.Shape;
+
+/**
+ * Generates, compiles and loads copies of a model with many constraints, each copy being a distinct set of classes so
+ * that its metadata is built from scratch by the provider.
+ * <p>
+ * The generated models are:
+ * <ul>
+ * <li>{@link Shape#WIDE}: a bean with {@value #PROPERTY_COUNT} constrained properties,</li>
+ * <li>{@link Shape#OVERLOADS}: a bean with {@value #OVERLOAD_COUNT} overloads of a method with constrained parameters
+ * and return value,</li>
+ * <li>{@link Shape#DEEP}: a bean at the bottom of a hierarchy of {@value #HIERARCHY_DEPTH} classes, each of them
+ * declaring a constrained field and implementing an interface declaring a constrained getter.</li>
+ * </ul>
+ */
+final class GeneratedModels implements AutoCloseable {
+
+	static final int PROPERTY_COUNT = 300;
+
+	static final int OVERLOAD_COUNT = 50;
+
+	static final int HIERARCHY_DEPTH = 20;
+
+	private static final String PACKAGE = GeneratedModels.class.getPackage().getName() + ".generated";
+
+	private final GeneratedSources sources;
+
+	private final List<Class<?>> rootClasses;
+
+	private GeneratedModels(GeneratedSources sources, List<Class<?>> rootClasses) {
+		this.sources = sources;
+		this.rootClasses = rootClasses;
+	}
+
+	/**
+	 * Generates and compiles the given number of copies of the model of the given shape.
+	 */
+	static GeneratedModels generate(Shape shape, int copies) throws IOException, ClassNotFoundException {
+		GeneratedSources sources = new GeneratedSources( PACKAGE );
+		List<String> rootClassNames = new ArrayList<>();
+		for ( int copy = 0; copy < copies; copy++ ) {
+			switch ( shape ) {
+				case WIDE:
+					rootClassNames.add( writeWideBean( sources, copy ) );
+					break;
+				case OVERLOADS:
+					rootClassNames.add( writeOverloadingBean( sources, copy ) );
+					break;
+				default:
+					rootClassNames.add( writeHierarchy( sources, copy ) );
+			}
+		}
+
+		sources.compile();
+
+		List<Class<?>> rootClasses = new ArrayList<>( copies );
+		for ( String rootClassName : rootClassNames ) {
+			rootClasses.add( sources.loadClass( rootClassName ) );
+		}
+
+		return new GeneratedModels( sources, rootClasses );
+	}
+
+	/**
+	 * @return the number of constraints of a copy of the model of the given shape, as counted by
+	 * {@link MetadataBenchmark#countConstraints(jakarta.validation.metadata.BeanDescriptor)}
+	 */
+	static int getConstraintCount(Shape shape) {
+		switch ( shape ) {
+			case WIDE:
+				// @NotNull and @Size on each property
+				return 2 * PROPERTY_COUNT;
+			case OVERLOADS:
+				// the overload i has i parameters, each overload has a constrained return value
+				return OVERLOAD_COUNT * ( OVERLOAD_COUNT + 1 ) / 2 + OVERLOAD_COUNT;
+			default:
+				// a field and a getter property per level, the getters being also described as constrained methods
+				return 3 * HIERARCHY_DEPTH;
+		}
+	}
+
+	List<Class<?>> getRootClasses() {
+		return rootClasses;
+	}
+
+	@Override
+	public void close() throws IOException {
+		sources.close();
+	}
+
+	private static String writeWideBean(GeneratedSources sources, int copy) throws IOException {
+		String className = "Wide" + copy;
+		try ( PrintWriter source = sources.newSource( className ) ) {
+			source.println( "public class " + className + " {" );
+			for ( int i = 0; i < PROPERTY_COUNT; i++ ) {
+				source.println( "\t@jakarta.validation.constraints.NotNull" );
+				source.println( "\t@jakarta.validation.constraints.Size(max = 20)" );
+				source.println( "\tprivate String property" + i + ";" );
+			}
+			source.println( "}" );
+		}
+		return className;
+	}
+
+	private static String writeOverloadingBean(GeneratedSources sources, int copy) throws IOException {
+		String className = "Overloads" + copy;
+		try ( PrintWriter source = sources.newSource( className ) ) {
+			source.println( "public class " + className + " {" );
+			for ( int i = 1; i <= OVERLOAD_COUNT; i++ ) {
+				source.println( "\t@jakarta.validation.constraints.NotNull" );
+				source.print( "\tpublic String process(" );
+				for ( int j = 0; j < i; j++ ) {
+					source.print( ( j > 0 ? ", " : "" ) + "@jakarta.validation.constraints.NotNull String parameter" + j );
+				}
+				source.println( ") {" );
+				source.println( "\t\treturn parameter0;" );
+				source.println( "\t}" );
+			}
+			source.println( "}" );
+		}
+		return className;
+	}
+
+	private static String writeHierarchy(GeneratedSources sources, int copy) throws IOException {
+		String className = null;
+		for ( int level = 0; level < HIERARCHY_DEPTH; level++ ) {
+			String interfaceName = "Deep" + copy + "Contract" + level;
+			try ( PrintWriter source = sources.newSource( interfaceName ) ) {
+				source.println( "public interface " + interfaceName + " {" );
+				source.println( "\t@jakarta.validation.constraints.NotNull" );
+				source.println( "\tString getValue" + level + "();" );
+				source.println( "}" );
+			}
+
+			String superClassName = className;
+			className = "Deep" + copy + "Level" + level;
+			try ( PrintWriter source = sources.newSource( className ) ) {
+				source.println( "public class " + className + ( superClassName != null ? " extends " + superClassName : "" )
+						+ " implements " + interfaceName + " {" );
+				source.println( "\t@jakarta.validation.constraints.Min(0)" );
+				source.println( "\tprivate int field" + level + ";" );
+				source.println( "\t@Override" );
+				source.println( "\tpublic String getValue" + level + "() {" );
+				source.println( "\t\treturn \"value\";" );
+				source.println( "\t}" );
+				source.println( "}" );
+			}
+		}
+		return className;
+	}
+}
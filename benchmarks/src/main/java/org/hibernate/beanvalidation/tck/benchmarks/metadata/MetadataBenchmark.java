@@ -0,0 +1,208 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.metadata;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.MethodDescriptor;
+import jakarta.validation.metadata.MethodType;
+import jakarta.validation.metadata.ParameterDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Retrieval of the metadata of beans with many constraints through {@link Validator#getConstraintsForClass(Class)},
+ * the returned descriptors being walked down to their constraint descriptors. The beans are generated and compiled
+ * when setting up the trial (see {@link GeneratedModels}):
+ * <ul>
+ * <li>{@code WIDE}: a bean with hundreds of constrained properties,</li>
+ * <li>{@code OVERLOADS}: a bean with dozens of overloads of a method with constrained parameters and return value,
+ * </li>
+ * <li>{@code DEEP}: a bean at the bottom of a hierarchy of 20 classes, each of them also implementing an interface
+ * declaring a constrained getter.</li>
+ * </ul>
+ * The number of constraints described for each bean is checked before measuring.
+ * <p>
+ * The benchmarks measure:
+ * <ul>
+ * <li>{@code describeNewClass}: the first lookup of a bean on a new validator factory, i.e. the cost of building its
+ * metadata,</li>
+ * <li>{@code describeCachedClass}: the repeated lookup of a bean already described by the validator factory,</li>
+ * <li>{@code describeAllCopies}: the first lookup of each of the {@value #COPIES} distinct copies of the bean on a new
+ * validator factory. Its {@code retainedBytesPerClass} secondary result gives the heap retained by the validator
+ * factory per described bean, measured from the used heap after garbage collections before and after the lookups.
+ * This benchmark having a single measurement iteration, it should be run with as many forks as needed for a stable
+ * result rather than with more iterations, the secondary result being summed over the iterations.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MetadataBenchmark extends AbstractValidationBenchmark {
+
+	private static final int COPIES = 20;
+
+	public enum Shape {
+		WIDE,
+		OVERLOADS,
+		DEEP
+	}
+
+	@Param({ "WIDE", "OVERLOADS", "DEEP" })
+	private Shape shape;
+
+	private GeneratedModels models;
+
+	private Class<?> beanClass;
+
+	@Setup(Level.Trial)
+	public void generateModels() throws IOException, ClassNotFoundException {
+		models = GeneratedModels.generate( shape, COPIES );
+		beanClass = models.getRootClasses().get( 0 );
+
+		int expectedCount = GeneratedModels.getConstraintCount( shape );
+		for ( Class<?> rootClass : models.getRootClasses() ) {
+			int count = countConstraints( validator.getConstraintsForClass( rootClass ) );
+			if ( count != expectedCount ) {
+				throw new IllegalStateException(
+						"Bean " + rootClass.getName() + " should be described with " + expectedCount + " constraints but was described with " + count
+				);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteModels() throws IOException {
+		models.close();
+	}
+
+	@Benchmark
+	public int describeNewClass(NewValidator newValidator) {
+		return countConstraints( newValidator.validator.getConstraintsForClass( beanClass ) );
+	}
+
+	@Benchmark
+	public int describeCachedClass() {
+		return countConstraints( validator.getConstraintsForClass( beanClass ) );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 1)
+	public int describeAllCopies(RetainedMemory retainedMemory) {
+		int count = 0;
+		for ( Class<?> rootClass : models.getRootClasses() ) {
+			count += countConstraints( retainedMemory.validator.getConstraintsForClass( rootClass ) );
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of constraints declared on the class, the properties, the methods and the method parameters
+	 * described by the given descriptor
+	 */
+	static int countConstraints(BeanDescriptor beanDescriptor) {
+		int count = beanDescriptor.getConstraintDescriptors().size();
+
+		for ( PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties() ) {
+			count += propertyDescriptor.getConstraintDescriptors().size();
+		}
+
+		for ( MethodDescriptor methodDescriptor : beanDescriptor.getConstrainedMethods( MethodType.GETTER, MethodType.NON_GETTER ) ) {
+			count += methodDescriptor.getReturnValueDescriptor().getConstraintDescriptors().size();
+			count += methodDescriptor.getCrossParameterDescriptor().getConstraintDescriptors().size();
+			for ( ParameterDescriptor parameterDescriptor : methodDescriptor.getParameterDescriptors() ) {
+				count += parameterDescriptor.getConstraintDescriptors().size();
+			}
+		}
+
+		return count;
+	}
+
+	private static long getUsedHeapAfterGc() {
+		for ( int i = 0; i < 3; i++ ) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Provides a validator of a new validator factory for each invocation.
+	 */
+	@State(Scope.Thread)
+	public static class NewValidator {
+
+		private ValidatorFactory validatorFactory;
+
+		private Validator validator;
+
+		@Setup(Level.Invocation)
+		public void setUpValidator() {
+			validatorFactory = TestUtil.getNewValidatorFactoryUnderTest();
+			validator = validatorFactory.getValidator();
+		}
+
+		@TearDown(Level.Invocation)
+		public void closeValidatorFactory() {
+			validatorFactory.close();
+		}
+	}
+
+	/**
+	 * Provides a validator of a new validator factory for each iteration and measures the heap retained once all the
+	 * copies of the bean have been described.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedMemory {
+
+		public long retainedBytesPerClass;
+
+		private ValidatorFactory validatorFactory;
+
+		private Validator validator;
+
+		private long usedHeapBefore;
+
+		@Setup(Level.Iteration)
+		public void setUpValidator() {
+			retainedBytesPerClass = 0;
+			validatorFactory = TestUtil.getNewValidatorFactoryUnderTest();
+			validator = validatorFactory.getValidator();
+			usedHeapBefore = getUsedHeapAfterGc();
+		}
+
+		@TearDown(Level.Iteration)
+		public void measureRetainedMemory() {
+			retainedBytesPerClass = ( getUsedHeapAfterGc() - usedHeapBefore ) / COPIES;
+			validatorFactory.close();
+		}
+	}
+}
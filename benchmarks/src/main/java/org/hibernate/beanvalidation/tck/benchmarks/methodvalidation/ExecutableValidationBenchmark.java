@@ -0,0 +1,105 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.methodvalidation;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Item;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Order;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.User;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parameter and return value validation of the executables of the method validation model and services, as exercised
+ * by {@link org.hibernate.beanvalidation.tck.tests.methodvalidation.ValidateParametersTest} and
+ * {@link org.hibernate.beanvalidation.tck.tests.methodvalidation.ValidateReturnValueTest}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExecutableValidationBenchmark extends AbstractValidationBenchmark {
+
+	private final User user = new User();
+
+	private final OrderService orderService = new OrderService();
+
+	private Method setNames;
+
+	private Method placeOrder;
+
+	private Object[] validNames;
+
+	private Object[] invalidNames;
+
+	private Object[] orderParameters;
+
+	private Order validOrder;
+
+	private Order invalidOrder;
+
+	@Setup(Level.Trial)
+	public void setUpExecutables() throws NoSuchMethodException {
+		setNames = User.class.getMethod( "setNames", String.class, CharSequence.class );
+		placeOrder = OrderService.class.getMethod( "placeOrder", String.class, Item.class, int.class );
+
+		validNames = new Object[] { "Bob", "Smith" };
+		invalidNames = new Object[] { null, "S" };
+		orderParameters = new Object[] { "Bob", new Item( "Tofu" ), 0 };
+
+		validOrder = new Order( "Christmas" );
+		invalidOrder = new Order( "Xmas" );
+
+		assertViolationCount( "validateValidParameters", validateValidParameters(), 0 );
+		assertViolationCount( "validateInvalidParameters", validateInvalidParameters(), 2 );
+		// the cross-parameter constraint always fails, the item name is too short and the quantity too low
+		assertViolationCount( "validateCascadedParameters", validateCascadedParameters(), 3 );
+		assertViolationCount( "validateValidReturnValue", validateValidReturnValue(), 0 );
+		// both the return value constraint and the cascaded one fail
+		assertViolationCount( "validateInvalidReturnValue", validateInvalidReturnValue(), 2 );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateValidParameters() {
+		return executableValidator.validateParameters( user, setNames, validNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateInvalidParameters() {
+		return executableValidator.validateParameters( user, setNames, invalidNames );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateCascadedParameters() {
+		return executableValidator.validateParameters( orderService, placeOrder, orderParameters );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateValidReturnValue() {
+		return executableValidator.validateReturnValue( orderService, placeOrder, validOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<OrderService>> validateInvalidReturnValue() {
+		return executableValidator.validateReturnValue( orderService, placeOrder, invalidOrder );
+	}
+}
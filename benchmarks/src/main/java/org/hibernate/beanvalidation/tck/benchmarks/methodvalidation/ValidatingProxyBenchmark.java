@@ -0,0 +1,176 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.methodvalidation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+
+import org.hibernate.beanvalidation.tck.benchmarks.AbstractValidationBenchmark;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.Order;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.OrderService;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.OrderServiceImpl;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.Shipment;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.ShipmentService;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.ShipmentServiceImpl;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Item;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.IOrderService;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invocations of services through the validating proxies of {@link TestUtil#getValidatingProxy(Object,
+ * jakarta.validation.Validator, Class[])}, validating the parameters and the return value of each call as an
+ * interceptor of a CDI or AOP container would do. The services are the ones of
+ * {@link org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.ExecutableValidationTest} and of the
+ * method validation tests.
+ * <p>
+ * The calls are made on unconstrained methods, on constrained methods with valid parameters and return values (the
+ * no violation path, which should stay close to the unconstrained one) and on constrained methods with invalid
+ * parameters or return values, the raised {@link ConstraintViolationException} being caught. The direct invocation of
+ * a service gives the baseline of the per call overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ValidatingProxyBenchmark extends AbstractValidationBenchmark {
+
+	private final OrderService orderService = new OrderServiceImpl();
+
+	private final Item invalidItem = new Item( "Tofu" );
+
+	private GreetingService greetingService;
+
+	private OrderService validatingOrderService;
+
+	private ShipmentService validatingShipmentService;
+
+	private ShipmentService validatingInvalidShipmentService;
+
+	private IOrderService validatingRetailOrderService;
+
+	@Setup(Level.Trial)
+	public void setUpProxies() {
+		greetingService = TestUtil.getValidatingProxy( new SimpleGreetingService(), validator );
+		validatingOrderService = TestUtil.getValidatingProxy( orderService, validator );
+		validatingShipmentService = TestUtil.getValidatingProxy( new AvailableShipmentService(), validator );
+		validatingInvalidShipmentService = TestUtil.getValidatingProxy( new ShipmentServiceImpl(), validator );
+		validatingRetailOrderService = TestUtil.getValidatingProxy(
+				new org.hibernate.beanvalidation.tck.tests.methodvalidation.service.OrderServiceImpl(),
+				validator
+		);
+
+		// the valid invocations raise a ConstraintViolationException in case of violation
+		invokeUnconstrained();
+		invokeWithValidParameters();
+		invokeWithValidReturnValue();
+		assertViolationCount( "invokeWithInvalidParameters", invokeWithInvalidParameters(), 1 );
+		// the cross-parameter constraint always fails, the item name is too short and the quantity too low
+		assertViolationCount( "invokeWithInvalidCascadedParameters", invokeWithInvalidCascadedParameters(), 3 );
+		assertViolationCount( "invokeWithInvalidReturnValue", invokeWithInvalidReturnValue(), 1 );
+	}
+
+	@Benchmark
+	public Order invokeDirectly() {
+		return orderService.placeOrder( "Bob" );
+	}
+
+	@Benchmark
+	public String invokeUnconstrained() {
+		return greetingService.greet( "Bob" );
+	}
+
+	@Benchmark
+	public Order invokeWithValidParameters() {
+		return validatingOrderService.placeOrder( "Bob" );
+	}
+
+	@Benchmark
+	public Shipment invokeWithValidReturnValue() {
+		return validatingShipmentService.getShipment();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<?>> invokeWithInvalidParameters() {
+		try {
+			validatingOrderService.placeOrder( null );
+		}
+		catch (ConstraintViolationException e) {
+			return e.getConstraintViolations();
+		}
+		throw new IllegalStateException( "The invocation should have raised a ConstraintViolationException" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<?>> invokeWithInvalidCascadedParameters() {
+		try {
+			validatingRetailOrderService.placeOrder( "Bob", invalidItem, 0 );
+		}
+		catch (ConstraintViolationException e) {
+			return e.getConstraintViolations();
+		}
+		throw new IllegalStateException( "The invocation should have raised a ConstraintViolationException" );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<?>> invokeWithInvalidReturnValue() {
+		try {
+			validatingInvalidShipmentService.getShipment();
+		}
+		catch (ConstraintViolationException e) {
+			return e.getConstraintViolations();
+		}
+		throw new IllegalStateException( "The invocation should have raised a ConstraintViolationException" );
+	}
+
+	/**
+	 * A service without any constraint, none of the services of the tests being unconstrained.
+	 */
+	public interface GreetingService {
+
+		String greet(String name);
+	}
+
+	public static class SimpleGreetingService implements GreetingService {
+
+		@Override
+		public String greet(String name) {
+			return "Hello " + name;
+		}
+	}
+
+	public static class AvailableShipmentService implements ShipmentService {
+
+		private final Shipment shipment = new Shipment();
+
+		@Override
+		public void findShipment(String id) {
+		}
+
+		@Override
+		public Shipment getShipment() {
+			return shipment;
+		}
+
+		@Override
+		public Shipment getAnotherShipment() {
+			return shipment;
+		}
+	}
+}
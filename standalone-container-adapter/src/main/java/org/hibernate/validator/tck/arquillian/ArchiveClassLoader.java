@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.tck.arquillian;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,75 +16,184 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
 import org.jboss.shrinkwrap.api.Node;
 import org.jboss.shrinkwrap.api.asset.Asset;
-import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
-import org.jboss.shrinkwrap.api.asset.FileAsset;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 
 /**
+ * Class loader serving the resources and classes of a deployed archive.
+ * <p>
+ * The content of the archive is read once when the class loader is created and kept in an immutable table, so that
+ * the many resource lookups done by the provider during bootstrap (e.g. {@code validation.xml}, the constraint mapping
+ * files or the {@code ValidationMessages} bundles) neither go through the archive nor open asset streams. Resources
+ * which are neither in the archive nor in the parent class loader are remembered as missing.
+ * <p>
+ * The parent class loader is asked first for classes, the archive classes are only defined by this class loader if
+ * the parent does not know them.
+ *
  * @author Hardy Ferentschik
  * @author Guillaume Smet
  */
 public class ArchiveClassLoader extends URLClassLoader {
 	private static final String WEB_ARCHIVE_PREFIX = "WEB-INF/classes/";
 	private static final String EMPTY_PREFIX = "";
-	private final Archive<?> archive;
-	private final String archivePrefix;
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
+	private final String archiveName;
+
+	/**
+	 * The content of the archive, the keys being the resource names relative to the archive prefix.
+	 */
+	private final Map<String, byte[]> resources;
+
+	/**
+	 * The directories of the archive, relative to the archive prefix.
+	 */
+	private final Set<String> directories;
+
+	private final ConcurrentMap<String, URL> resourceUrls = new ConcurrentHashMap<>();
+
+	private final Set<String> missingResources = ConcurrentHashMap.newKeySet();
+
+	private final URLStreamHandler urlStreamHandler = new ArchiveURLStreamHandler();
+
+	private final AtomicInteger definedClassCount = new AtomicInteger();
 
 	public ArchiveClassLoader(ClassLoader classLoader, Archive<?> archive) {
 		super( new URL[] { }, classLoader );
-		this.archive = archive;
+		this.archiveName = archive.getName();
+
+		String archivePrefix;
 		if ( archive instanceof WebArchive ) {
 			archivePrefix = WEB_ARCHIVE_PREFIX;
 		}
 		else {
 			archivePrefix = EMPTY_PREFIX;
 		}
+
+		Map<String, byte[]> resources = new HashMap<>();
+		Set<String> directories = new HashSet<>();
+		for ( Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet() ) {
+			String name = getResourceName( entry.getKey(), archivePrefix );
+			if ( name == null ) {
+				continue;
+			}
+
+			Asset asset = entry.getValue().getAsset();
+			if ( asset == null ) {
+				directories.add( name );
+			}
+			else {
+				resources.put( name, readAsset( archive, name, asset ) );
+			}
+		}
+		this.resources = Collections.unmodifiableMap( resources );
+		this.directories = Collections.unmodifiableSet( directories );
 	}
 
 	@Override
 	public InputStream getResourceAsStream(String name) {
-		if ( archive.get( archivePrefix + name ) != null ) {
-			return loadFromArchive( archivePrefix + name );
+		byte[] resource = resources.get( name );
+		if ( resource != null ) {
+			return new ByteArrayInputStream( resource );
 		}
-		else {
-			return super.getResourceAsStream( name );
+		if ( directories.contains( name ) || missingResources.contains( name ) ) {
+			return null;
 		}
+
+		InputStream in = super.getResourceAsStream( name );
+		if ( in == null ) {
+			missingResources.add( name );
+		}
+		return in;
 	}
 
 	@Override
 	public URL getResource(String name) {
-		if ( archive.get( archivePrefix + name ) != null ) {
-			try {
-				return new URL( null, "archive:" + archive.getName() + "/" + name, new ArchiveURLStreamHandler() );
-			}
-			catch (MalformedURLException e) {
-				throw new RuntimeException( "Could not create URL for archive: " + archive.getName() + " and resource " + name, e );
-			}
+		if ( resources.containsKey( name ) || directories.contains( name ) ) {
+			return resourceUrls.computeIfAbsent( name, this::createResourceUrl );
 		}
-		else {
-			return super.getResource( name );
+		if ( missingResources.contains( name ) ) {
+			return null;
 		}
+
+		URL url = super.getResource( name );
+		if ( url == null ) {
+			missingResources.add( name );
+		}
+		return url;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		byte[] classFile = resources.get( name.replace( '.', '/' ) + CLASS_FILE_EXTENSION );
+		if ( classFile == null ) {
+			return super.findClass( name );
+		}
+
+		Class<?> clazz = defineClass( name, classFile, 0, classFile.length );
+		definedClassCount.incrementAndGet();
+		return clazz;
+	}
+
+	public String getArchiveName() {
+		return archiveName;
 	}
 
-	private InputStream loadFromArchive(String name) {
-		Asset asset = archive.get( name ).getAsset();
+	/**
+	 * @return the number of classes of the archive defined by this class loader, i.e. the archive classes unknown to
+	 * the parent class loader
+	 */
+	public int getDefinedClassCount() {
+		return definedClassCount.get();
+	}
 
-		InputStream in;
-		if ( asset instanceof FileAsset ) {
-			in = asset.openStream();
+	private URL createResourceUrl(String name) {
+		try {
+			return new URL( null, "archive:" + archiveName + "/" + name, urlStreamHandler );
 		}
-		else if ( asset instanceof ByteArrayAsset ) {
-			in = asset.openStream();
+		catch (MalformedURLException e) {
+			throw new RuntimeException( "Could not create URL for archive: " + archiveName + " and resource " + name, e );
 		}
-		else {
-			throw new RuntimeException( "Unsupported asset type " + asset.toString() );
+	}
+
+	private static String getResourceName(ArchivePath path, String archivePrefix) {
+		// archive paths are absolute
+		String name = path.get().substring( 1 );
+		if ( !name.startsWith( archivePrefix ) || name.length() == archivePrefix.length() ) {
+			return null;
 		}
+		return name.substring( archivePrefix.length() );
+	}
 
-		return in;
+	private static byte[] readAsset(Archive<?> archive, String name, Asset asset) {
+		try ( InputStream in = asset.openStream() ) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				out.write( buffer, 0, read );
+			}
+			return out.toByteArray();
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Could not read resource " + name + " of archive " + archive.getName(), e );
+		}
 	}
 
 	private class ArchiveURLStreamHandler extends URLStreamHandler {
@@ -97,30 +208,26 @@ public class ArchiveClassLoader extends URLClassLoader {
 
 				@Override
 				public InputStream getInputStream() throws IOException {
-					final String path = convertToArchivePath( u );
-					final Node node = archive.get( path );
+					final String name = convertToResourceName( u );
 
-					// SHRINKWRAP-308
-					if ( node == null ) {
-						// We've asked for a path that doesn't exist
-						throw new FileNotFoundException( "Requested path: " + path + " does not exist in "
-								+ archive.toString() );
+					if ( directories.contains( name ) ) {
+						// This is a directory, so return null InputStream to denote as such
+						return null;
 					}
 
-					final Asset asset = node.getAsset();
+					final byte[] resource = resources.get( name );
 
-					// SHRINKWRAP-306
-					if ( asset == null ) {
-						// This is a directory, so return null InputStream to denote as such
-						return null;
+					if ( resource == null ) {
+						// We've asked for a path that doesn't exist
+						throw new FileNotFoundException( "Requested resource: " + name + " does not exist in "
+								+ archiveName );
 					}
 
-					return asset.openStream();
+					return new ByteArrayInputStream( resource );
 				}
 
-				private String convertToArchivePath(URL url) {
-					String path = url.getPath();
-					return path.replace( archive.getName() + "/", archivePrefix );
+				private String convertToResourceName(URL url) {
+					return url.getPath().substring( archiveName.length() + 1 );
 				}
 			};
 		}
@@ -18,11 +18,23 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
 /**
  * A dummy Arquillian container in order to run test locally
+ * <p>
+ * Each deployment gets its own {@link ArchiveClassLoader}, set as context class loader of the deploying thread until
+ * the archive is undeployed. The replaced context class loader is kept per thread. In parallel execution mode (see
+ * {@link BeanValidationLocalContainerConfiguration#getThreadCount()}), each suite thread runs its own container
+ * instance.
+ * <p>
+ * If the {@code classLoaderLeakCheck} property of the container is set, the class loaders of the undeployed archives
+ * are checked for leaks when the container is stopped, see {@link ClassLoaderLeakDetector}.
  *
  * @author Hardy Ferentschik
  */
 public class BeanValidationLocalContainer implements ContainerConfiguration, DeployableContainer {
-	private ClassLoader originalContextClassLoader;
+	private final ThreadLocal<ClassLoader> originalContextClassLoader = new ThreadLocal<>();
+
+	private ClassLoaderLeakDetector leakDetector;
+
+	private boolean failOnLeak;
 
 	@Override
 	public Class getConfigurationClass() {
@@ -31,6 +43,11 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public void setup(ContainerConfiguration configuration) {
+		String leakCheck = ( (BeanValidationLocalContainerConfiguration) configuration ).getClassLoaderLeakCheck();
+		if ( leakCheck != null ) {
+			leakDetector = new ClassLoaderLeakDetector();
+			failOnLeak = BeanValidationLocalContainerConfiguration.CLASS_LOADER_LEAK_CHECK_FAIL.equals( leakCheck );
+		}
 	}
 
 	@Override
@@ -39,6 +56,21 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public void stop() throws LifecycleException {
+		if ( leakDetector == null ) {
+			return;
+		}
+
+		String leaks;
+		try {
+			leaks = leakDetector.check();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LifecycleException( "Interrupted while checking the class loaders of the undeployed archives", e );
+		}
+		if ( leaks != null && failOnLeak ) {
+			throw new LifecycleException( "Class loader leak: " + leaks );
+		}
 	}
 
 	@Override
@@ -48,20 +80,41 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public ProtocolMetaData deploy(Archive archive) throws DeploymentException {
-		originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		originalContextClassLoader.set( contextClassLoader );
 		ArchiveClassLoader archiveClassLoader = new ArchiveClassLoader(
-				originalContextClassLoader,
+				getParentClassLoader( contextClassLoader ),
 				archive
 		);
 		Thread.currentThread().setContextClassLoader( archiveClassLoader );
+		if ( leakDetector != null ) {
+			leakDetector.deployed( archive, archiveClassLoader );
+		}
 		return new ProtocolMetaData();
 	}
 
 	@Override
 	public void undeploy(Archive archive) throws DeploymentException {
-		if ( originalContextClassLoader != null ) {
-			Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+		ClassLoader contextClassLoader = originalContextClassLoader.get();
+		if ( contextClassLoader != null ) {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+			originalContextClassLoader.remove();
+		}
+		if ( leakDetector != null ) {
+			leakDetector.undeployed( archive );
+		}
+	}
+
+	/**
+	 * Suite threads may be spawned by other suite threads and thus inherit the class loader of a deployment as
+	 * context class loader. The deployments must not see each other so we never use such a class loader as parent.
+	 */
+	private static ClassLoader getParentClassLoader(ClassLoader contextClassLoader) {
+		ClassLoader parent = contextClassLoader;
+		while ( parent instanceof ArchiveClassLoader ) {
+			parent = parent.getParent();
 		}
+		return parent;
 	}
 
 	@Override
@@ -14,9 +14,67 @@ import org.jboss.arquillian.container.spi.client.container.ContainerConfiguratio
  */
 public class BeanValidationLocalContainerConfiguration implements ContainerConfiguration {
 
+	/**
+	 * Name of the {@code threadCount} property in {@code arquillian.xml}.
+	 */
+	public static final String THREAD_COUNT_PROPERTY = "threadCount";
+
+	/**
+	 * Name of the {@code classLoaderLeakCheck} property in {@code arquillian.xml}.
+	 */
+	public static final String CLASS_LOADER_LEAK_CHECK_PROPERTY = "classLoaderLeakCheck";
+
+	/**
+	 * Value of the {@code classLoaderLeakCheck} property logging the class loaders retained after undeployment.
+	 */
+	public static final String CLASS_LOADER_LEAK_CHECK_REPORT = "report";
+
+	/**
+	 * Value of the {@code classLoaderLeakCheck} property failing the run if class loaders are retained after
+	 * undeployment.
+	 */
+	public static final String CLASS_LOADER_LEAK_CHECK_FAIL = "fail";
+
+	private int threadCount = 1;
+
+	private String classLoaderLeakCheck;
+
+	/**
+	 * @return the number of threads used to execute the test classes. A value greater than 1 enables the parallel
+	 * execution mode in which the test classes are split into suites executed concurrently, see
+	 * {@link ParallelExecutionSuiteListener}.
+	 */
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	public void setThreadCount(int threadCount) {
+		this.threadCount = threadCount;
+	}
+
+	/**
+	 * @return {@code report} or {@code fail} if the class loaders of the deployments retained after their undeployment
+	 * are to be reported or to fail the run, see {@link ClassLoaderLeakDetector}, {@code null} otherwise
+	 */
+	public String getClassLoaderLeakCheck() {
+		return classLoaderLeakCheck;
+	}
+
+	public void setClassLoaderLeakCheck(String classLoaderLeakCheck) {
+		this.classLoaderLeakCheck = classLoaderLeakCheck == null || classLoaderLeakCheck.trim().isEmpty()
+				? null
+				: classLoaderLeakCheck.trim();
+	}
+
 	@Override
 	public void validate() throws ConfigurationException {
+		if ( threadCount < 1 ) {
+			throw new ConfigurationException( "The thread count must be greater than 0 but is " + threadCount );
+		}
+		if ( classLoaderLeakCheck != null && !CLASS_LOADER_LEAK_CHECK_REPORT.equals( classLoaderLeakCheck )
+				&& !CLASS_LOADER_LEAK_CHECK_FAIL.equals( classLoaderLeakCheck ) ) {
+			throw new ConfigurationException( "The class loader leak check must be " + CLASS_LOADER_LEAK_CHECK_REPORT + " or "
+					+ CLASS_LOADER_LEAK_CHECK_FAIL + " but is " + classLoaderLeakCheck );
+		}
 	}
 }
-
-
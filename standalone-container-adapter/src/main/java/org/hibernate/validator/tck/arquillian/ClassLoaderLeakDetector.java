@@ -0,0 +1,136 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.tck.arquillian;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Detects the {@link ArchiveClassLoader}s retained after the undeployment of their archive, enabled by the
+ * {@code classLoaderLeakCheck} property of the container.
+ * <p>
+ * Each deployment gets its own class loader, so a provider keeping references to the classes, the resources or the
+ * class loader of a deployment (e.g. in a metadata cache keyed by class) retains the class loader, and the classes it
+ * defined in the metaspace, once the archive is undeployed. In an application server, the class loaders of the
+ * redeployed applications then pile up.
+ * <p>
+ * The class loader of each undeployed archive is tracked by a weak reference. When the container is stopped, garbage
+ * collections are requested until the tracked class loaders are collected or no more of them gets collected. The
+ * class loaders still reachable are reported with the shortest reference chain leading to them, when one can be found
+ * (see {@link ReferenceChains}), and the metaspace usage. The class loaders retained by soft references only, e.g. by
+ * a cache cleared under memory pressure, are reported without reference chain.
+ */
+final class ClassLoaderLeakDetector {
+
+	private static final Logger log = Logger.getLogger( ClassLoaderLeakDetector.class.getName() );
+
+	private static final int MAX_GC_ATTEMPTS = 10;
+
+	private static final int MAX_GC_ATTEMPTS_WITHOUT_PROGRESS = 3;
+
+	private static final long GC_PAUSE_MILLIS = 100;
+
+	private final Map<Archive<?>, ArchiveClassLoader> deployedClassLoaders = Collections.synchronizedMap( new IdentityHashMap<>() );
+
+	private final ConcurrentLinkedQueue<WeakReference<ArchiveClassLoader>> undeployedClassLoaders = new ConcurrentLinkedQueue<>();
+
+	void deployed(Archive<?> archive, ArchiveClassLoader classLoader) {
+		deployedClassLoaders.put( archive, classLoader );
+	}
+
+	void undeployed(Archive<?> archive) {
+		ArchiveClassLoader classLoader = deployedClassLoaders.remove( archive );
+		if ( classLoader != null ) {
+			undeployedClassLoaders.add( new WeakReference<>( classLoader ) );
+		}
+	}
+
+	/**
+	 * Checks that the class loaders of the undeployed archives are collected, logging the retained ones.
+	 *
+	 * @return a summary of the retained class loaders, {@code null} if all the class loaders are collected
+	 */
+	String check() throws InterruptedException {
+		int tracked = undeployedClassLoaders.size();
+		List<WeakReference<ArchiveClassLoader>> retained = new ArrayList<>( undeployedClassLoaders );
+		int attemptsWithoutProgress = 0;
+		for ( int attempt = 0; attempt < MAX_GC_ATTEMPTS && !retained.isEmpty() && attemptsWithoutProgress < MAX_GC_ATTEMPTS_WITHOUT_PROGRESS; attempt++ ) {
+			System.gc();
+			Thread.sleep( GC_PAUSE_MILLIS );
+
+			int before = retained.size();
+			for ( Iterator<WeakReference<ArchiveClassLoader>> iterator = retained.iterator(); iterator.hasNext(); ) {
+				if ( iterator.next().get() == null ) {
+					iterator.remove();
+				}
+			}
+			attemptsWithoutProgress = retained.size() < before ? 0 : attemptsWithoutProgress + 1;
+		}
+		undeployedClassLoaders.clear();
+
+		ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+		String usage = "classes loaded " + classLoading.getLoadedClassCount() + ", unloaded " + classLoading.getUnloadedClassCount()
+				+ ", metaspace used " + getMetaspaceUsed() / 1024 + " KB";
+		if ( retained.isEmpty() ) {
+			log.info( "Class loader leak check: the " + tracked + " class loaders of the undeployed archives are collected (" + usage + ")" );
+			return null;
+		}
+
+		List<ArchiveClassLoader> classLoaders = new ArrayList<>();
+		int retainedClasses = 0;
+		for ( WeakReference<ArchiveClassLoader> reference : retained ) {
+			ArchiveClassLoader classLoader = reference.get();
+			if ( classLoader != null ) {
+				classLoaders.add( classLoader );
+				retainedClasses += classLoader.getDefinedClassCount();
+			}
+		}
+
+		String summary = classLoaders.size() + " of the " + tracked + " class loaders of the undeployed archives are retained, defining "
+				+ retainedClasses + " classes (" + usage + ")";
+		StringBuilder report = new StringBuilder( "Class loader leak check: " ).append( summary );
+		Map<Object, List<String>> chains = ReferenceChains.find( classLoaders );
+		for ( ArchiveClassLoader classLoader : classLoaders ) {
+			report.append( System.lineSeparator() ).append( "- " ).append( classLoader.getArchiveName() )
+					.append( ", defining " ).append( classLoader.getDefinedClassCount() ).append( " classes, " );
+			List<String> chain = chains.get( classLoader );
+			if ( chain == null ) {
+				report.append( "no strong reference chain found" );
+			}
+			else {
+				report.append( "retained by:" );
+				for ( String reference : chain ) {
+					report.append( System.lineSeparator() ).append( "    " ).append( reference );
+				}
+			}
+		}
+		log.warning( report.toString() );
+
+		return summary;
+	}
+
+	private static long getMetaspaceUsed() {
+		for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() ) {
+			if ( "Metaspace".equals( pool.getName() ) ) {
+				return pool.getUsage().getUsed();
+			}
+		}
+		return 0;
+	}
+}
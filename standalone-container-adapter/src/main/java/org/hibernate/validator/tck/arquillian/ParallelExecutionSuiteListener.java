@@ -0,0 +1,248 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.tck.arquillian;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.config.descriptor.api.ContainerDef;
+import org.jboss.arquillian.config.impl.extension.ConfigurationRegistrar;
+import org.jboss.arquillian.config.impl.extension.StringPropertyReplacer;
+import org.jboss.arquillian.container.impl.MapObject;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * TestNG listener enabling the parallel execution mode of the local container.
+ * <p>
+ * If the {@code threadCount} property of the container selected in the Arquillian configuration is greater than 1,
+ * the test classes of each suite are split into child suites, executed concurrently by TestNG on a pool of that many
+ * suite threads. There are a few child suites per thread, the threads finishing their suites early taking the
+ * remaining ones, as the execution time of the test classes varies a lot. The property is resolved like Arquillian
+ * does, so it may be overridden with the {@code arq.container.<qualifier>.configuration.threadCount} system property.
+ * <p>
+ * Each child suite is executed by a single thread from start to end, so it runs its own Arquillian lifecycle with its
+ * own container instance: the test classes are deployed, executed and undeployed one after the other by that thread,
+ * each of them in its own {@link ArchiveClassLoader}, and nothing is shared between the child suites. The test classes
+ * are split by name into contiguous ranges in order to keep the test classes of a package mostly together.
+ * <p>
+ * The {@code <test>}s setting the {@code parallelExecution} parameter to {@code false} are not split but moved to
+ * another child suite, which is never executed while one of the other child suites is: {@code tck-tests.xml}
+ * executes the test classes altering JVM wide state (e.g. the default locale) this way. TestNG never executes a suite
+ * having child suites in parallel mode, so the original suite is left without {@code <test>}s. The TCK must
+ * nevertheless be executed serially in order to certify an implementation.
+ * <p>
+ * The listener is registered via the service loader mechanism and does nothing when the property is not set.
+ */
+public class ParallelExecutionSuiteListener implements IAlterSuiteListener, ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( ParallelExecutionSuiteListener.class.getName() );
+
+	/**
+	 * Name of the {@code <test>} parameter excluding a test from the parallel execution when set to {@code false}.
+	 */
+	public static final String PARALLEL_EXECUTION_PARAMETER = "parallelExecution";
+
+	/**
+	 * Name of the system property used to select the container qualifier to launch.
+	 */
+	private static final String ARQUILLIAN_LAUNCH_PROPERTY = "arquillian.launch";
+
+	private static final int SUITES_PER_THREAD = 4;
+
+	private final Set<XmlSuite> serialSuites = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+	/**
+	 * Held for reading by the child suites executed in parallel and for writing by the serial ones.
+	 */
+	private final ReadWriteLock suiteLock = new ReentrantReadWriteLock();
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void alter(List<XmlSuite> suites) {
+		int threadCount = getThreadCount();
+		if ( threadCount <= 1 ) {
+			return;
+		}
+
+		// TestNG does not offer another way to set the suite thread pool size from a listener
+		TestNG testNG = TestNG.getDefault();
+		if ( testNG == null ) {
+			throw new IllegalStateException( "The parallel execution mode requires the suites to be executed by TestNG" );
+		}
+
+		log.info( "Executing test classes in parallel using " + threadCount + " threads" );
+		for ( XmlSuite suite : suites ) {
+			split( suite, threadCount );
+		}
+		testNG.setSuiteThreadPoolSize( threadCount );
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+		getLock( suite ).lock();
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		getLock( suite ).unlock();
+	}
+
+	private Lock getLock(ISuite suite) {
+		return serialSuites.contains( suite.getXmlSuite() ) ? suiteLock.writeLock() : suiteLock.readLock();
+	}
+
+	/**
+	 * Moves the {@code <test>}s of the given suite to child suites, the test classes of the {@code <test>}s executed
+	 * in parallel being split into {@link #SUITES_PER_THREAD} suites per thread.
+	 */
+	private void split(XmlSuite suite, int threadCount) {
+		int suiteCount = threadCount * SUITES_PER_THREAD;
+
+		List<XmlTest> serialTests = new ArrayList<>();
+		List<XmlTest> parallelTests = new ArrayList<>();
+		for ( XmlTest test : suite.getTests() ) {
+			if ( Boolean.FALSE.toString().equalsIgnoreCase( test.getLocalParameters().get( PARALLEL_EXECUTION_PARAMETER ) ) ) {
+				serialTests.add( test );
+			}
+			else {
+				parallelTests.add( test );
+			}
+		}
+
+		List<XmlSuite> childSuites = new ArrayList<>();
+		for ( int i = 0; i < suiteCount; i++ ) {
+			childSuites.add( createChildSuite( suite, String.valueOf( i + 1 ) ) );
+		}
+
+		for ( XmlTest test : parallelTests ) {
+			List<XmlClass> classes = getClasses( test );
+			for ( int i = 0; i < suiteCount; i++ ) {
+				List<XmlClass> range = classes.subList( classes.size() * i / suiteCount, classes.size() * ( i + 1 ) / suiteCount );
+				if ( !range.isEmpty() ) {
+					createChildTest( childSuites.get( i ), test, range );
+				}
+			}
+		}
+
+		if ( !serialTests.isEmpty() ) {
+			XmlSuite serialSuite = createChildSuite( suite, "Serial" );
+			for ( XmlTest test : serialTests ) {
+				XmlTest serialTest = createChildTest( serialSuite, test, test.getXmlClasses() );
+				serialTest.setXmlPackages( test.getXmlPackages() );
+			}
+			serialSuites.add( serialSuite );
+			childSuites.add( serialSuite );
+		}
+
+		suite.getTests().clear();
+		for ( XmlSuite childSuite : childSuites ) {
+			if ( !childSuite.getTests().isEmpty() ) {
+				childSuite.setParentSuite( suite );
+				suite.getChildSuites().add( childSuite );
+			}
+		}
+	}
+
+	private static XmlSuite createChildSuite(XmlSuite suite, String suffix) {
+		XmlSuite childSuite = new XmlSuite();
+		childSuite.setName( suite.getName() + "-" + suffix );
+		childSuite.setFileName( suite.getFileName() );
+		childSuite.setVerbose( suite.getVerbose() );
+		childSuite.setConfigFailurePolicy( suite.getConfigFailurePolicy() );
+		childSuite.setPreserveOrder( suite.getPreserveOrder() );
+		childSuite.setParameters( new HashMap<>( suite.getParameters() ) );
+		childSuite.setMethodSelectors( suite.getMethodSelectors() );
+		childSuite.setGroups( suite.getGroups() );
+		return childSuite;
+	}
+
+	private static XmlTest createChildTest(XmlSuite childSuite, XmlTest test, List<XmlClass> classes) {
+		XmlTest childTest = new XmlTest( childSuite );
+		childTest.setName( test.getName() );
+		childTest.setParameters( new HashMap<>( test.getLocalParameters() ) );
+		childTest.setMethodSelectors( test.getMethodSelectors() );
+		childTest.setIncludedGroups( test.getIncludedGroups() );
+		childTest.setExcludedGroups( test.getExcludedGroups() );
+		childTest.setPreserveOrder( test.getPreserveOrder() );
+		childTest.setXmlClasses( new ArrayList<>( classes ) );
+		return childTest;
+	}
+
+	/**
+	 * @return the classes of the given test, declared explicitly or found in its packages, sorted by name
+	 */
+	private static List<XmlClass> getClasses(XmlTest test) {
+		List<XmlClass> classes = new ArrayList<>( test.getXmlClasses() );
+		for ( XmlPackage xmlPackage : test.getXmlPackages() ) {
+			classes.addAll( xmlPackage.getXmlClasses() );
+		}
+		classes.sort( Comparator.comparing( XmlClass::getName ) );
+		return classes;
+	}
+
+	/**
+	 * @return the thread count of the container selected in the Arquillian configuration, 1 if there is none
+	 */
+	private static int getThreadCount() {
+		ContainerDef container = getSelectedContainer( loadDescriptor() );
+		if ( container == null ) {
+			return 1;
+		}
+
+		BeanValidationLocalContainerConfiguration configuration = new BeanValidationLocalContainerConfiguration();
+		try {
+			MapObject.populate( configuration, container.getContainerProperties() );
+		}
+		catch (Exception e) {
+			throw new IllegalStateException( "Unable to read the configuration of container " + container.getContainerName(), e );
+		}
+		configuration.validate();
+
+		return configuration.getThreadCount();
+	}
+
+	private static ContainerDef getSelectedContainer(ArquillianDescriptor descriptor) {
+		List<ContainerDef> containers = descriptor.getContainers();
+		String qualifier = System.getProperty( ARQUILLIAN_LAUNCH_PROPERTY );
+
+		for ( ContainerDef container : containers ) {
+			if ( qualifier != null ? qualifier.equals( container.getContainerName() ) : container.isDefault() ) {
+				return container;
+			}
+		}
+
+		return qualifier == null && containers.size() == 1 ? containers.get( 0 ) : null;
+	}
+
+	/**
+	 * @return the Arquillian configuration read from {@code arquillian.xml}, {@code arquillian.properties} and the
+	 * system properties, with the system property placeholders replaced
+	 */
+	private static ArquillianDescriptor loadDescriptor() {
+		ArquillianDescriptor descriptor = new ConfigurationRegistrar().loadConfiguration();
+		return Descriptors.importAs( ArquillianDescriptor.class )
+				.fromString( StringPropertyReplacer.replaceProperties( descriptor.exportAsString() ) );
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.tck.arquillian;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the shortest reference chains from GC roots to given objects by walking the object graph with reflection.
+ * <p>
+ * As the GC roots are not accessible from Java code, the walk starts from the live threads (including their context
+ * class loaders and thread locals) and from the system class loader, from which the classes it loaded and their static
+ * fields are reached. Besides the fields of the objects, an object references its class and a class references its
+ * class loader and its static fields. The referents of the {@link Reference} objects are not followed, as they do not
+ * retain them strongly. The fields which are not accessible (e.g. fields of the JDK on JDK 9 and later when the
+ * packages are not opened to the TCK) are not followed either, so a chain may not be found.
+ * <p>
+ * The walk is breadth first and stops once the chains of all the objects are found or after visiting
+ * {@value #MAX_VISITED_OBJECTS} objects.
+ */
+final class ReferenceChains {
+
+	private static final int MAX_VISITED_OBJECTS = 5_000_000;
+
+	private static final Field REFERENT_FIELD = getReferentField();
+
+	private static final ClassValue<List<Field>> instanceFields = new ClassValue<List<Field>>() {
+
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			return getAccessibleFields( type, false );
+		}
+	};
+
+	private static final ClassValue<List<Field>> staticFields = new ClassValue<List<Field>>() {
+
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			return getAccessibleFields( type, true );
+		}
+	};
+
+	private ReferenceChains() {
+	}
+
+	/**
+	 * @return the shortest reference chain found to each of the given objects, as a list of descriptions of the
+	 * references starting with the root, the objects without chain being omitted
+	 */
+	static Map<Object, List<String>> find(Collection<?> targets) {
+		Set<Object> remaining = Collections.newSetFromMap( new IdentityHashMap<>() );
+		remaining.addAll( targets );
+
+		Map<Object, Edge> edges = new IdentityHashMap<>();
+		Deque<Object> toVisit = new ArrayDeque<>();
+		for ( Thread thread : Thread.getAllStackTraces().keySet() ) {
+			visit( null, "thread " + thread.getName(), thread, edges, toVisit );
+		}
+		visit( null, "system class loader", ClassLoader.getSystemClassLoader(), edges, toVisit );
+
+		Map<Object, List<String>> chains = new IdentityHashMap<>();
+		while ( !toVisit.isEmpty() && !remaining.isEmpty() && edges.size() < MAX_VISITED_OBJECTS ) {
+			Object object = toVisit.poll();
+			if ( remaining.remove( object ) ) {
+				chains.put( object, getChain( object, edges ) );
+				// the objects only reachable through a target are not of interest
+				continue;
+			}
+
+			Class<?> type = object.getClass();
+			visit( object, "getClass()", type, edges, toVisit );
+			if ( object instanceof Class ) {
+				Class<?> clazz = (Class<?>) object;
+				visit( object, "getClassLoader()", getClassLoader( clazz ), edges, toVisit );
+				for ( Field field : staticFields.get( clazz ) ) {
+					visit( object, "static " + field.getName(), getValue( field, null ), edges, toVisit );
+				}
+			}
+			else if ( type.isArray() ) {
+				if ( !type.getComponentType().isPrimitive() ) {
+					Object[] array = (Object[]) object;
+					for ( int i = 0; i < array.length; i++ ) {
+						visit( object, "[" + i + "]", array[i], edges, toVisit );
+					}
+				}
+			}
+			else {
+				for ( Field field : instanceFields.get( type ) ) {
+					if ( !field.equals( REFERENT_FIELD ) ) {
+						visit( object, field.getName(), getValue( field, object ), edges, toVisit );
+					}
+				}
+			}
+		}
+		return chains;
+	}
+
+	private static void visit(Object referrer, String reference, Object object, Map<Object, Edge> edges, Deque<Object> toVisit) {
+		if ( object == null || edges.containsKey( object ) ) {
+			return;
+		}
+		edges.put( object, new Edge( referrer, reference ) );
+		toVisit.add( object );
+	}
+
+	private static List<String> getChain(Object target, Map<Object, Edge> edges) {
+		List<String> chain = new ArrayList<>();
+		Object object = target;
+		while ( object != null ) {
+			Edge edge = edges.get( object );
+			chain.add( edge.reference + " -> " + describe( object ) );
+			object = edge.referrer;
+		}
+		Collections.reverse( chain );
+		return chain;
+	}
+
+	private static String describe(Object object) {
+		if ( object instanceof Class ) {
+			return "class " + ( (Class<?>) object ).getName();
+		}
+		if ( object instanceof ArchiveClassLoader ) {
+			return ArchiveClassLoader.class.getSimpleName() + " of " + ( (ArchiveClassLoader) object ).getArchiveName();
+		}
+		return object.getClass().getName();
+	}
+
+	private static ClassLoader getClassLoader(Class<?> clazz) {
+		try {
+			return clazz.getClassLoader();
+		}
+		catch (SecurityException e) {
+			return null;
+		}
+	}
+
+	private static Object getValue(Field field, Object object) {
+		try {
+			return field.get( object );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static List<Field> getAccessibleFields(Class<?> type, boolean staticFields) {
+		List<Field> fields = new ArrayList<>();
+		for ( Class<?> clazz = type; clazz != null; clazz = staticFields ? null : clazz.getSuperclass() ) {
+			Field[] declaredFields;
+			try {
+				declaredFields = clazz.getDeclaredFields();
+			}
+			catch (LinkageError | SecurityException e) {
+				continue;
+			}
+			for ( Field field : declaredFields ) {
+				if ( Modifier.isStatic( field.getModifiers() ) != staticFields || field.getType().isPrimitive() ) {
+					continue;
+				}
+				try {
+					field.setAccessible( true );
+					fields.add( field );
+				}
+				catch (RuntimeException e) {
+					// field of the JDK not opened to the TCK, it is not followed
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static Field getReferentField() {
+		try {
+			return Reference.class.getDeclaredField( "referent" );
+		}
+		catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The reference through which an object has been reached first.
+	 */
+	private static class Edge {
+
+		private final Object referrer;
+
+		private final String reference;
+
+		private Edge(Object referrer, String reference) {
+			this.referrer = referrer;
+			this.reference = reference;
+		}
+	}
+}
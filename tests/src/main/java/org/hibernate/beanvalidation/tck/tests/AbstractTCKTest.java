@@ -13,9 +13,12 @@ import jakarta.validation.executable.ExecutableValidator;
 import org.assertj.core.api.Assert;
 import org.hibernate.beanvalidation.tck.util.CollectionHelper;
 import org.hibernate.beanvalidation.tck.util.ConstraintViolationAssert;
+import org.hibernate.beanvalidation.tck.util.HarnessHook;
+import org.hibernate.beanvalidation.tck.util.HarnessHooks;
 import org.hibernate.beanvalidation.tck.util.TestUtil;
 import org.hibernate.beanvalidation.tck.util.ValidationInvocationHandler;
 import org.hibernate.beanvalidation.tck.util.shrinkwrap.ArchiveBuilder;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.ArchiveHook;
 import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
 import org.jboss.arquillian.testng.Arquillian;
 
@@ -34,14 +37,19 @@ public abstract class AbstractTCKTest extends Arquillian {
 
 		webArchiveBuilder.withClasses(
 				ArchiveBuilder.class,
+				ArchiveHook.class,
 				WebArchiveBuilder.class,
 				AbstractTCKTest.class,
 				AbstractBootstrapFailureTCKTest.class,
 				TestUtil.class,
+				HarnessHook.class,
+				HarnessHooks.class,
 				ConstraintViolationAssert.class,
 				CollectionHelper.class,
 				ValidationInvocationHandler.class
 		);
+		// The instrumentation of the reports is only deployed when they are enabled
+		webArchiveBuilder.withClasses( HarnessHooks.getHookClasses() );
 
 		// We don't use the Maven features of Shrinkwrap as the TCK might not be run with Maven
 		// or it could be run in an offline environment.
@@ -0,0 +1,188 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.concurrency;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+
+/**
+ * Base class for the tests validating the same object graphs from several threads concurrently.
+ * <p>
+ * The violations returned by each concurrent validation are compared to the ones returned by a single threaded
+ * validation. As {@link ConstraintViolation} does not define {@code equals()}, the violations are compared through a
+ * description of their constraint, message, property path, root and leaf beans and invalid value. Beans and values are
+ * described by their identity, so a violation reported for the wrong instance is detected as well.
+ */
+public abstract class AbstractConcurrentValidationTest extends AbstractTCKTest {
+
+	private static final Logger log = Logger.getLogger( AbstractConcurrentValidationTest.class.getName() );
+
+	private static final int THREAD_COUNT = 8;
+
+	private static final int EXECUTIONS_PER_THREAD = 250;
+
+	private static final int MAX_REPORTED_MISMATCHES = 5;
+
+	private static final long TIMEOUT_IN_MINUTES = 5;
+
+	/**
+	 * Executes the given validation from several threads concurrently and asserts that each execution returns the
+	 * same violations as a single threaded execution.
+	 *
+	 * @param scenario the name of the scenario, used in the failure messages and the throughput report
+	 * @param validation the validation to execute
+	 */
+	protected <T> void assertConcurrentValidationIsConsistent(String scenario, Supplier<Set<ConstraintViolation<T>>> validation) {
+		List<String> expectedViolations = describe( validation.get() );
+		assertTrue( !expectedViolations.isEmpty(), "Scenario " + scenario + " is expected to raise violations" );
+
+		assertConcurrentExecutionIsConsistent( scenario, expectedViolations, () -> describe( validation.get() ) );
+	}
+
+	/**
+	 * Executes the given operation from several threads concurrently and asserts that each execution returns the
+	 * expected result.
+	 *
+	 * @param scenario the name of the scenario, used in the failure messages and the throughput report
+	 * @param expectedResult the expected result of each execution
+	 * @param execution the operation to execute, returning a description of its result
+	 */
+	protected void assertConcurrentExecutionIsConsistent(String scenario, List<String> expectedResult, Supplier<List<String>> execution) {
+		Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+		CountDownLatch startSignal = new CountDownLatch( 1 );
+
+		ExecutorService executor = Executors.newFixedThreadPool( THREAD_COUNT );
+		try {
+			List<Future<Integer>> results = new ArrayList<>( THREAD_COUNT );
+			for ( int i = 0; i < THREAD_COUNT; i++ ) {
+				results.add( executor.submit( () -> {
+					startSignal.await();
+
+					int mismatchCount = 0;
+					for ( int j = 0; j < EXECUTIONS_PER_THREAD; j++ ) {
+						List<String> actualResult = execution.get();
+						if ( !expectedResult.equals( actualResult ) ) {
+							mismatchCount++;
+							mismatches.add( actualResult.toString() );
+						}
+					}
+					return mismatchCount;
+				} ) );
+			}
+
+			long start = System.nanoTime();
+			startSignal.countDown();
+
+			int mismatchCount = 0;
+			for ( Future<Integer> result : results ) {
+				mismatchCount += result.get( TIMEOUT_IN_MINUTES, TimeUnit.MINUTES );
+			}
+
+			long elapsedNanos = System.nanoTime() - start;
+			int executionCount = THREAD_COUNT * EXECUTIONS_PER_THREAD;
+			log.info( String.format(
+					"Scenario %s: %d executions by %d threads in %d ms (%.0f executions/s)",
+					scenario,
+					executionCount,
+					THREAD_COUNT,
+					TimeUnit.NANOSECONDS.toMillis( elapsedNanos ),
+					executionCount / ( elapsedNanos / 1_000_000_000d )
+			) );
+
+			assertEquals(
+					mismatchCount,
+					0,
+					"Scenario " + scenario + ": " + mismatchCount + " concurrent executions returned results different from "
+							+ expectedResult + ", e.g. " + firstMismatches( mismatches )
+			);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while waiting for the concurrent executions", e );
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException( "Scenario " + scenario + ": a concurrent execution failed", e.getCause() );
+		}
+		catch (TimeoutException e) {
+			throw new IllegalStateException( "Scenario " + scenario + ": the concurrent executions did not complete in time", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<String> firstMismatches(Queue<String> mismatches) {
+		List<String> firstMismatches = new ArrayList<>( MAX_REPORTED_MISMATCHES );
+		for ( String mismatch : mismatches ) {
+			if ( firstMismatches.size() == MAX_REPORTED_MISMATCHES ) {
+				break;
+			}
+			firstMismatches.add( mismatch );
+		}
+		return firstMismatches;
+	}
+
+	/**
+	 * Returns the sorted descriptions of the given violations. Duplicated violations are kept so that they are
+	 * detected as well.
+	 */
+	private static List<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		List<String> descriptions = new ArrayList<>( violations.size() );
+		for ( ConstraintViolation<?> violation : violations ) {
+			descriptions.add( describe( violation ) );
+		}
+		Collections.sort( descriptions );
+		return descriptions;
+	}
+
+	private static String describe(ConstraintViolation<?> violation) {
+		StringBuilder description = new StringBuilder();
+		description.append( violation.getConstraintDescriptor().getAnnotation().annotationType().getName() )
+				.append( " '" ).append( violation.getMessage() ).append( "' at " );
+
+		for ( Path.Node node : violation.getPropertyPath() ) {
+			description.append( '/' ).append( node.getKind() ).append( ':' ).append( node.getName() );
+			if ( node.isInIterable() ) {
+				description.append( '[' ).append( node.getIndex() ).append( ',' ).append( describeInstance( node.getKey() ) ).append( ']' );
+			}
+		}
+
+		description.append( " root=" ).append( describeInstance( violation.getRootBean() ) )
+				.append( " leaf=" ).append( describeInstance( violation.getLeafBean() ) )
+				.append( " value=" ).append( describeInstance( violation.getInvalidValue() ) );
+
+		return description.toString();
+	}
+
+	private static String describeInstance(Object instance) {
+		if ( instance == null ) {
+			return "null";
+		}
+		return instance.getClass().getName() + "@" + Integer.toHexString( System.identityHashCode( instance ) );
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.concurrency;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Validator;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.hibernate.beanvalidation.tck.tests.validation.ContainerElementsOrder;
+import org.hibernate.beanvalidation.tck.tests.validation.Item;
+import org.hibernate.beanvalidation.tck.tests.validation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.ProductCategory;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+/**
+ * Validates container elements from several threads concurrently, making sure the container element nodes of the
+ * violations are not mixed up.
+ */
+@SpecVersion(spec = "beanvalidation", version = "3.0.0")
+public class ConcurrentContainerElementValidationTest extends AbstractConcurrentValidationTest {
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConcurrentContainerElementValidationTest.class )
+				.withClasses(
+						AbstractConcurrentValidationTest.class,
+						ContainerElementsOrder.class,
+						Item.class,
+						OrderLine.class,
+						ProductCategory.class
+				)
+				.build();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentValidationOfContainerElements() {
+		Map<ProductCategory, List<OrderLine>> orderLines = new HashMap<>();
+		orderLines.put( null, createOrderLines( "item" ) );
+		orderLines.put( ProductCategory.MUSIC, createOrderLines( "album" ) );
+		orderLines.put( ProductCategory.HARDWARE, createOrderLines( "drive" ) );
+
+		ContainerElementsOrder order = new ContainerElementsOrder( "order", orderLines );
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "containerElements", () -> validator.validate( order ) );
+	}
+
+	private static List<OrderLine> createOrderLines(String itemNamePrefix) {
+		List<OrderLine> orderLines = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			// every third item name is too short
+			orderLines.add( new OrderLine( new Item( i % 3 == 0 ? "#" + i : itemNamePrefix + " #" + i ) ) );
+		}
+		return orderLines;
+	}
+}
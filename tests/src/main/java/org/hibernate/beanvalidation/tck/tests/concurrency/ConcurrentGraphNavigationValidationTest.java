@@ -0,0 +1,99 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.concurrency;
+
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+/**
+ * Validates the object graphs of {@link org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.GraphNavigationTest}
+ * from several threads concurrently.
+ */
+@SpecVersion(spec = "beanvalidation", version = "3.0.0")
+public class ConcurrentGraphNavigationValidationTest extends AbstractConcurrentValidationTest {
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConcurrentGraphNavigationValidationTest.class )
+				.withClasses(
+						AbstractConcurrentValidationTest.class,
+						Address.class,
+						Order.class,
+						OrderLine.class,
+						User.class
+				)
+				.build();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentValidationOfObjectGraphWithSharedValidator() {
+		Order order = createOrder();
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "objectGraph", () -> validator.validate( order ) );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentValidationOfCyclicGraphWithSharedValidator() {
+		User john = new User( "John", null );
+		User jane = new User( "Jane", "Doe" );
+		john.knows( john );
+		john.knows( jane );
+		jane.knows( john );
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "cyclicGraph", () -> validator.validate( jane ) );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_BOOTSTRAPPING_VALIDATORFACTORY, id = "a")
+	public void testConcurrentValidationWithValidatorsOfSharedValidatorFactory() {
+		Order order = createOrder();
+		ValidatorFactory validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+
+		assertConcurrentValidationIsConsistent( "objectGraphWithNewValidators", () -> validatorFactory.getValidator().validate( order ) );
+	}
+
+	private static Order createOrder() {
+		User user = new User( "John", "Doe" );
+
+		Address address1 = new Address( null, "11122", "Stockholm" );
+		address1.setInhabitant( user );
+
+		Address address2 = new Address( "Kungsgatan 5", "11122", "Stockholm" );
+		address2.setInhabitant( user );
+
+		user.addAddress( address1 );
+		user.addAddress( address2 );
+
+		Order order = new Order( 1 );
+		order.setShippingAddress( address1 );
+		order.setBillingAddress( address2 );
+		order.setCustomer( user );
+
+		for ( int i = 0; i < 20; i++ ) {
+			order.addOrderLine( new OrderLine( order, i % 5 == 0 ? null : i ) );
+		}
+
+		return order;
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.concurrency;
+
+import static org.hibernate.beanvalidation.tck.util.TestUtil.getDefaultMessageInterpolator;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+/**
+ * Interpolates messages for many locales from several threads concurrently using a single default message
+ * interpolator, making sure the messages resolved from the bundles, the message parameters and the locale dependent
+ * formatting of EL expressions are not mixed up between locales.
+ */
+@SpecVersion(spec = "beanvalidation", version = "3.0.0")
+public class ConcurrentMessageInterpolationTest extends AbstractConcurrentValidationTest {
+
+	private static final String SIZE_TEMPLATE = "{org.hibernate.beanvalidation.tck.tests.concurrency.size}";
+
+	private static final String RECURSIVE_TEMPLATE = "{org.hibernate.beanvalidation.tck.tests.concurrency.recursive}";
+
+	private static final String VALUE_TEMPLATE = "{org.hibernate.beanvalidation.tck.tests.concurrency.value}";
+
+	private static final String PARAMETERS_TEMPLATE = "between {min} and {max}";
+
+	private static final String BUILTIN_TEMPLATE = "{jakarta.validation.constraints.NotNull.message}";
+
+	private static final Double VALIDATED_VALUE = 3.14159;
+
+	private static final List<Locale> BUNDLE_LOCALES = Collections.unmodifiableList( Arrays.asList(
+			Locale.ENGLISH,
+			Locale.GERMAN,
+			Locale.FRENCH,
+			Locale.ITALIAN,
+			new Locale( "es" ),
+			new Locale( "nl" )
+	) );
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConcurrentMessageInterpolationTest.class )
+				.withClasses( AbstractConcurrentValidationTest.class )
+				.withResource( "ValidationMessages_en.properties", "ValidationMessages_en.properties", true )
+				.withResource( "ValidationMessages_de.properties", "ValidationMessages_de.properties", true )
+				.withResource( "ValidationMessages_fr.properties", "ValidationMessages_fr.properties", true )
+				.withResource( "ValidationMessages_it.properties", "ValidationMessages_it.properties", true )
+				.withResource( "ValidationMessages_es.properties", "ValidationMessages_es.properties", true )
+				.withResource( "ValidationMessages_nl.properties", "ValidationMessages_nl.properties", true )
+				.build();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_LOCALE, id = "a")
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_RESOLUTIONALGORITHM, id = "a")
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_RESOLUTIONALGORITHM, id = "b")
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_RESOLUTIONALGORITHM, id = "f")
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_RESOLUTIONALGORITHM, id = "g")
+	public void testConcurrentInterpolationAcrossLocales() {
+		MessageInterpolator interpolator = getDefaultMessageInterpolator();
+		MessageInterpolator.Context context = new InterpolationContext( getSizeDescriptor(), VALIDATED_VALUE );
+		List<String> templates = Arrays.asList( SIZE_TEMPLATE, RECURSIVE_TEMPLATE, VALUE_TEMPLATE, PARAMETERS_TEMPLATE );
+
+		List<String> expectedMessages = Arrays.asList(
+				describe( Locale.ENGLISH, SIZE_TEMPLATE, "size must be between 2 and 10" ),
+				describe( Locale.ENGLISH, RECURSIVE_TEMPLATE, "size must be between 2 and 10" ),
+				describe( Locale.ENGLISH, VALUE_TEMPLATE, "the value 3.14 is too small" ),
+				describe( Locale.ENGLISH, PARAMETERS_TEMPLATE, "between 2 and 10" ),
+				describe( Locale.GERMAN, SIZE_TEMPLATE, "Größe muss zwischen 2 und 10 sein" ),
+				describe( Locale.GERMAN, RECURSIVE_TEMPLATE, "Größe muss zwischen 2 und 10 sein" ),
+				describe( Locale.GERMAN, VALUE_TEMPLATE, "der Wert 3,14 ist zu klein" ),
+				describe( Locale.GERMAN, PARAMETERS_TEMPLATE, "between 2 and 10" ),
+				describe( Locale.FRENCH, SIZE_TEMPLATE, "la taille doit être comprise entre 2 et 10" ),
+				describe( Locale.FRENCH, RECURSIVE_TEMPLATE, "la taille doit être comprise entre 2 et 10" ),
+				describe( Locale.FRENCH, VALUE_TEMPLATE, "la valeur 3,14 est trop petite" ),
+				describe( Locale.FRENCH, PARAMETERS_TEMPLATE, "between 2 and 10" ),
+				describe( Locale.ITALIAN, SIZE_TEMPLATE, "la dimensione deve essere tra 2 e 10" ),
+				describe( Locale.ITALIAN, RECURSIVE_TEMPLATE, "la dimensione deve essere tra 2 e 10" ),
+				describe( Locale.ITALIAN, VALUE_TEMPLATE, "il valore 3,14 è troppo piccolo" ),
+				describe( Locale.ITALIAN, PARAMETERS_TEMPLATE, "between 2 and 10" ),
+				describe( new Locale( "es" ), SIZE_TEMPLATE, "el tamaño debe estar entre 2 y 10" ),
+				describe( new Locale( "es" ), RECURSIVE_TEMPLATE, "el tamaño debe estar entre 2 y 10" ),
+				describe( new Locale( "es" ), VALUE_TEMPLATE, "el valor 3,14 es demasiado pequeño" ),
+				describe( new Locale( "es" ), PARAMETERS_TEMPLATE, "between 2 and 10" ),
+				describe( new Locale( "nl" ), SIZE_TEMPLATE, "de grootte moet tussen 2 en 10 liggen" ),
+				describe( new Locale( "nl" ), RECURSIVE_TEMPLATE, "de grootte moet tussen 2 en 10 liggen" ),
+				describe( new Locale( "nl" ), VALUE_TEMPLATE, "de waarde 3,14 is te klein" ),
+				describe( new Locale( "nl" ), PARAMETERS_TEMPLATE, "between 2 and 10" )
+		);
+		Collections.sort( expectedMessages );
+
+		assertEquals( interpolate( interpolator, context, templates, BUNDLE_LOCALES ), expectedMessages, "Wrong interpolation" );
+
+		assertConcurrentExecutionIsConsistent(
+				"bundleLocales",
+				expectedMessages,
+				() -> interpolate( interpolator, context, templates, BUNDLE_LOCALES )
+		);
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_MESSAGE_DEFAULTMESSAGEINTERPOLATION_LOCALE, id = "a")
+	public void testConcurrentInterpolationOfBuiltinMessageAcrossAvailableLocales() {
+		MessageInterpolator interpolator = getDefaultMessageInterpolator();
+		MessageInterpolator.Context context = new InterpolationContext( getSizeDescriptor(), null );
+		List<String> templates = Collections.singletonList( BUILTIN_TEMPLATE );
+		List<Locale> locales = Arrays.asList( Locale.getAvailableLocales() );
+
+		List<String> expectedMessages = interpolate( interpolator, context, templates, locales );
+
+		assertConcurrentExecutionIsConsistent(
+				"availableLocales",
+				expectedMessages,
+				() -> interpolate( interpolator, context, templates, locales )
+		);
+	}
+
+	/**
+	 * Interpolates each template for each locale, in a random order, and returns the sorted descriptions of the
+	 * interpolated messages.
+	 */
+	private static List<String> interpolate(MessageInterpolator interpolator, MessageInterpolator.Context context,
+			List<String> templates, List<Locale> locales) {
+		List<Locale> shuffledLocales = new ArrayList<>( locales );
+		Collections.shuffle( shuffledLocales, ThreadLocalRandom.current() );
+
+		List<String> messages = new ArrayList<>( templates.size() * locales.size() );
+		for ( Locale locale : shuffledLocales ) {
+			for ( String template : templates ) {
+				messages.add( describe( locale, template, interpolator.interpolate( template, context, locale ) ) );
+			}
+		}
+		Collections.sort( messages );
+		return messages;
+	}
+
+	private static String describe(Locale locale, String template, String message) {
+		return locale + " " + template + " -> " + message;
+	}
+
+	private ConstraintDescriptor<?> getSizeDescriptor() {
+		return getValidator().getConstraintsForClass( Item.class )
+				.getConstraintsForProperty( "name" )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	private static class InterpolationContext implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> descriptor;
+
+		private final Object validatedValue;
+
+		private InterpolationContext(ConstraintDescriptor<?> descriptor, Object validatedValue) {
+			this.descriptor = descriptor;
+			this.validatedValue = validatedValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return descriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new UnsupportedOperationException( "Unwrapping is not supported" );
+		}
+	}
+
+	private static class Item {
+
+		@Size(min = 2, max = 10)
+		private String name;
+	}
+}
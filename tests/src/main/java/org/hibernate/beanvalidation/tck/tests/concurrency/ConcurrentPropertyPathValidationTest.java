@@ -0,0 +1,85 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.concurrency;
+
+import jakarta.validation.Validator;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.hibernate.beanvalidation.tck.tests.validation.Actor;
+import org.hibernate.beanvalidation.tck.tests.validation.ActorArrayBased;
+import org.hibernate.beanvalidation.tck.tests.validation.ActorListBased;
+import org.hibernate.beanvalidation.tck.tests.validation.Person;
+import org.hibernate.beanvalidation.tck.tests.validation.PlayedWith;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+/**
+ * Validates the actor graphs of {@link org.hibernate.beanvalidation.tck.tests.validation.PropertyPathTest} from several
+ * threads concurrently, making sure the property paths of the violations are not mixed up.
+ */
+@SpecVersion(spec = "beanvalidation", version = "3.0.0")
+public class ConcurrentPropertyPathValidationTest extends AbstractConcurrentValidationTest {
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConcurrentPropertyPathValidationTest.class )
+				.withClasses(
+						AbstractConcurrentValidationTest.class,
+						Actor.class,
+						ActorArrayBased.class,
+						ActorListBased.class,
+						Person.class,
+						PlayedWith.class
+				)
+				.build();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentValidationOfListBasedGraph() {
+		Actor clint = createActors( new ActorListBased( "Clint", "Eastwood" ), new ActorListBased( "Morgan", null ),
+				new ActorListBased( "Charlie", "Sheen" ), new ActorListBased( null, "Freeman" ) );
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "listBasedGraph", () -> validator.validate( clint ) );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentValidationOfArrayBasedGraph() {
+		Actor clint = createActors( new ActorArrayBased( "Clint", "Eastwood" ), new ActorArrayBased( "Morgan", null ),
+				new ActorArrayBased( "Charlie", "Sheen" ), new ActorArrayBased( null, "Freeman" ) );
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "arrayBasedGraph", () -> validator.validate( clint ) );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.VALIDATIONAPI_VALIDATORAPI, id = "a")
+	public void testConcurrentPropertyAndValueValidation() {
+		Actor morgan = new ActorListBased( "Morgan", null );
+		Validator validator = getValidator();
+
+		assertConcurrentValidationIsConsistent( "property", () -> validator.validateProperty( morgan, "lastName" ) );
+		assertConcurrentValidationIsConsistent( "value", () -> validator.validateValue( ActorListBased.class, "firstName", null ) );
+	}
+
+	private static Actor createActors(Actor clint, Actor morgan, Actor charlie, Actor anonymous) {
+		clint.addPlayedWith( charlie );
+		charlie.addPlayedWith( clint );
+		charlie.addPlayedWith( morgan );
+		morgan.addPlayedWith( charlie );
+		morgan.addPlayedWith( anonymous );
+		anonymous.addPlayedWith( clint );
+
+		return clint;
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.traversableresolver;
+
+import java.lang.annotation.ElementType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+
+/**
+ * A {@link TraversableResolver} implementation considering every property as traversable and counting the calls to
+ * the resolver by the engine under test, in order to detect redundant calls.
+ */
+public class CountingTraversableResolver implements TraversableResolver {
+	private final Map<Call, Integer> reachableCalls = new HashMap<>();
+	private final Map<Call, Integer> cascadableCalls = new HashMap<>();
+	private int isReachableCallCount = 0;
+	private int isCascadableCallCount = 0;
+
+	public int getReachableCallCount() {
+		return isReachableCallCount;
+	}
+
+	public int getCascadableCallCount() {
+		return isCascadableCallCount;
+	}
+
+	/**
+	 * @return the number of calls to {@code isReachable()} repeating a previous call with the same parameters
+	 */
+	public int getRedundantReachableCallCount() {
+		return isReachableCallCount - reachableCalls.size();
+	}
+
+	/**
+	 * @return the number of calls to {@code isCascadable()} repeating a previous call with the same parameters
+	 */
+	public int getRedundantCascadableCallCount() {
+		return isCascadableCallCount - cascadableCalls.size();
+	}
+
+	@Override
+	public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+		Call call = toCall( traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType );
+		reachableCalls.merge( call, 1, Integer::sum );
+		isReachableCallCount++;
+		return true;
+	}
+
+	@Override
+	public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+		Call call = toCall( traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType );
+		if ( !reachableCalls.containsKey( call ) ) {
+			throw new IllegalStateException( "isCascadable called before a matching isReachable call: " + call.toString() );
+		}
+
+		cascadableCalls.merge( call, 1, Integer::sum );
+		isCascadableCallCount++;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "isReachable: " + isReachableCallCount + " calls (" + getRedundantReachableCallCount() + " redundant), "
+				+ "isCascadable: " + isCascadableCallCount + " calls (" + getRedundantCascadableCallCount() + " redundant)";
+	}
+
+	private static Call toCall(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+		List<String> names = new ArrayList<>();
+		for ( Path.Node node : pathToTraversableObject ) {
+			names.add( node.getName() );
+		}
+		return new Call(
+				traversableObject,
+				traversableProperty.getName(),
+				rootBeanType,
+				elementType,
+				names.toArray( new String[names.size()] )
+		);
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.traversableresolver;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public class Tailor {
+	@NotNull
+	private String name;
+
+	@Valid
+	private Tailor apprentice;
+
+	public Tailor(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Tailor getApprentice() {
+		return apprentice;
+	}
+
+	public void setApprentice(Tailor apprentice) {
+		this.apprentice = apprentice;
+	}
+}
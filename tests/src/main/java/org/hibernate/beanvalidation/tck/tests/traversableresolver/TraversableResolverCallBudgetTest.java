@@ -0,0 +1,194 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.traversableresolver;
+
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.Test;
+
+/**
+ * Counts the calls to the traversable resolver when validating deep graphs, cascaded collections and method
+ * parameters or return values, and reports them per scenario.
+ * <p>
+ * The specification does not limit the number of calls to the traversable resolver, but each call may be costly (e.g.
+ * a lazy loading check when Jakarta Persistence is used). When the {@code traversableResolverCallBudget} system
+ * property is set to {@code true}, these tests also assert that the resolver is called at most once per property of
+ * each validated object, i.e. that the provider does not call the resolver redundantly.
+ */
+@SpecVersion(spec = "beanvalidation", version = "3.0.0")
+public class TraversableResolverCallBudgetTest extends AbstractTCKTest {
+
+	/**
+	 * Name of the system property enabling the assertions of the call budgets.
+	 */
+	public static final String CALL_BUDGET_PROPERTY = "traversableResolverCallBudget";
+
+	private static final Logger log = Logger.getLogger( TraversableResolverCallBudgetTest.class.getName() );
+
+	private static final int GRAPH_DEPTH = 50;
+
+	private static final int COLLECTION_SIZE = 100;
+
+	// size, trousers, trousers.length, jacket, jacket.width
+	private static final int SUIT_REACHABLE_CALLS = 5;
+
+	// trousers, jacket
+	private static final int SUIT_CASCADABLE_CALLS = 2;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClassPackage( TraversableResolverCallBudgetTest.class )
+				.build();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "a")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "b")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "c")
+	public void testCallBudgetForDeepGraph() {
+		Tailor master = new Tailor( "master" );
+		Tailor tailor = master;
+		for ( int i = 1; i < GRAPH_DEPTH; i++ ) {
+			tailor.setApprentice( new Tailor( "apprentice " + i ) );
+			tailor = tailor.getApprentice();
+		}
+
+		CountingTraversableResolver resolver = new CountingTraversableResolver();
+		getValidatorFactory( resolver ).getValidator().validate( master );
+
+		// name and apprentice for each tailor
+		assertCallBudget( "deepGraph", resolver, 2 * GRAPH_DEPTH, GRAPH_DEPTH );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "a")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "b")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "c")
+	public void testCallBudgetForCascadedCollection() {
+		Wardrobe wardrobe = new Wardrobe();
+		wardrobe.replaceSuits( createSuits() );
+
+		CountingTraversableResolver resolver = new CountingTraversableResolver();
+		getValidatorFactory( resolver ).getValidator().validate( wardrobe );
+
+		// the suits property, then the properties of each suit
+		assertCallBudget(
+				"cascadedCollection",
+				resolver,
+				1 + COLLECTION_SIZE * SUIT_REACHABLE_CALLS,
+				1 + COLLECTION_SIZE * SUIT_CASCADABLE_CALLS
+		);
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "k")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "l")
+	public void testCallBudgetForParameterValidation() throws Exception {
+		Method method = Wardrobe.class.getMethod( "replaceSuits", List.class );
+		Object[] parameterValues = new Object[] { createSuits() };
+
+		CountingTraversableResolver resolver = new CountingTraversableResolver();
+		getValidatorFactory( resolver ).getValidator().forExecutables().validateParameters(
+				new Wardrobe(),
+				method,
+				parameterValues
+		);
+
+		// the parameter itself is not passed to the resolver
+		assertCallBudget(
+				"parameterValidation",
+				resolver,
+				COLLECTION_SIZE * SUIT_REACHABLE_CALLS,
+				COLLECTION_SIZE * SUIT_CASCADABLE_CALLS
+		);
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "k")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_VALIDATIONROUTINE_TRAVERSABLE, id = "l")
+	public void testCallBudgetForReturnValueValidation() throws Exception {
+		Wardrobe wardrobe = new Wardrobe();
+		wardrobe.replaceSuits( createSuits() );
+		Method method = Wardrobe.class.getMethod( "emptyWardrobe" );
+
+		CountingTraversableResolver resolver = new CountingTraversableResolver();
+		getValidatorFactory( resolver ).getValidator().forExecutables().validateReturnValue(
+				wardrobe,
+				method,
+				wardrobe.emptyWardrobe()
+		);
+
+		// the return value itself is not passed to the resolver
+		assertCallBudget(
+				"returnValueValidation",
+				resolver,
+				COLLECTION_SIZE * SUIT_REACHABLE_CALLS,
+				COLLECTION_SIZE * SUIT_CASCADABLE_CALLS
+		);
+	}
+
+	private static ValidatorFactory getValidatorFactory(CountingTraversableResolver resolver) {
+		return TestUtil.getConfigurationUnderTest()
+				.traversableResolver( resolver )
+				.buildValidatorFactory();
+	}
+
+	private static List<Suit> createSuits() {
+		List<Suit> suits = new ArrayList<>( COLLECTION_SIZE );
+		for ( int i = 0; i < COLLECTION_SIZE; i++ ) {
+			Suit suit = new Suit();
+			suit.setSize( 1 + i % 50 );
+			suit.setTrousers( new Trousers() );
+			suit.setJacket( new Jacket() );
+			suits.add( suit );
+		}
+		return suits;
+	}
+
+	private static void assertCallBudget(String scenario, CountingTraversableResolver resolver, int maxReachableCalls,
+			int maxCascadableCalls) {
+		log.info( "Traversable resolver calls for scenario " + scenario + ": " + resolver
+				+ " - budget: " + maxReachableCalls + " isReachable calls, " + maxCascadableCalls + " isCascadable calls" );
+
+		assertTrue( resolver.getReachableCallCount() > 0, "isReachable should have been called" );
+		assertTrue( resolver.getCascadableCallCount() > 0, "isCascadable should have been called" );
+
+		if ( !Boolean.getBoolean( CALL_BUDGET_PROPERTY ) ) {
+			return;
+		}
+
+		assertTrue(
+				resolver.getRedundantReachableCallCount() == 0 && resolver.getRedundantCascadableCallCount() == 0,
+				"Redundant calls to the traversable resolver in scenario " + scenario + ": " + resolver
+		);
+		assertTrue(
+				resolver.getReachableCallCount() <= maxReachableCalls,
+				"Scenario " + scenario + " should call isReachable at most " + maxReachableCalls + " times but called it "
+						+ resolver.getReachableCallCount() + " times"
+		);
+		assertTrue(
+				resolver.getCascadableCallCount() <= maxCascadableCalls,
+				"Scenario " + scenario + " should call isCascadable at most " + maxCascadableCalls + " times but called it "
+						+ resolver.getCascadableCallCount() + " times"
+		);
+	}
+}
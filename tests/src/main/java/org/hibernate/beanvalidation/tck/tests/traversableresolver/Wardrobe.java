@@ -0,0 +1,32 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.traversableresolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+
+public class Wardrobe {
+	@Valid
+	private List<Suit> suits = new ArrayList<>();
+
+	public List<Suit> getSuits() {
+		return suits;
+	}
+
+	public void replaceSuits(@Valid List<Suit> suits) {
+		this.suits = suits;
+	}
+
+	@Valid
+	public List<Suit> emptyWardrobe() {
+		List<Suit> tmpSuits = this.suits;
+		this.suits = new ArrayList<>();
+		return tmpSuits;
+	}
+}
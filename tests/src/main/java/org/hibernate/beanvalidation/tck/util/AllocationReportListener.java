@@ -0,0 +1,174 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.ValidationAllocations.Allocations;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener writing a CSV report of the bytes allocated by each test method and test class and by the validation
+ * calls they make, as measured by {@link ValidationAllocations}.
+ * <p>
+ * The report is only written if the {@code allocationReport} system property is set to the path of the report file.
+ * It contains a row per invocation of a test method followed by a row per test class aggregating the rows of the
+ * class. Besides the bytes allocated by the whole test method, each row gives the number of validation calls and the
+ * bytes they allocated, the same numbers for the validation calls of valid objects, the maximum number of bytes
+ * allocated by such a call and the number of such calls exceeding the budget given by the {@code allocationBudget}
+ * system property.
+ */
+public class AllocationReportListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( AllocationReportListener.class.getName() );
+
+	private static final String KIND_TEST = "test";
+
+	private static final String KIND_CLASS = "class";
+
+	private final ConcurrentLinkedQueue<Invocation> invocations = new ConcurrentLinkedQueue<>();
+
+	private final ThreadLocal<Invocation> currentInvocation = new ThreadLocal<>();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		if ( !ValidationAllocations.isEnabled() || !method.isTestMethod() ) {
+			return;
+		}
+
+		Invocation invocation = new Invocation(
+				KIND_TEST,
+				testResult.getTestClass().getRealClass().getName(),
+				method.getTestMethod().getMethodName()
+		);
+		currentInvocation.set( invocation );
+		ValidationAllocations.begin( invocation.allocations );
+		invocation.start = ValidationAllocations.getAllocatedBytes();
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		Invocation invocation = currentInvocation.get();
+		if ( invocation == null ) {
+			return;
+		}
+
+		invocation.allocations.addMethodBytes( ValidationAllocations.getAllocatedBytes() - invocation.start );
+		ValidationAllocations.end();
+		currentInvocation.remove();
+		invocations.add( invocation );
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		if ( !ValidationAllocations.isEnabled() ) {
+			return;
+		}
+
+		File report = new File( System.getProperty( ValidationAllocations.ALLOCATION_REPORT_PROPERTY ) );
+		try {
+			writeReport( report );
+			log.info( "Allocation report written to " + report.getPath() );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Unable to write the allocation report " + report.getPath(), e );
+		}
+	}
+
+	private synchronized void writeReport(File report) throws IOException {
+		if ( report.getAbsoluteFile().getParentFile() != null ) {
+			Files.createDirectories( report.getAbsoluteFile().getParentFile().toPath() );
+		}
+
+		Map<String, Invocation> classes = new TreeMap<>();
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( report.toPath(), StandardCharsets.UTF_8 ) ) ) {
+			writer.println( "kind,class,method,method_bytes,validation_calls,validation_bytes,bytes_per_validation_call,"
+					+ "valid_calls,valid_bytes,bytes_per_valid_call,max_valid_call_bytes,over_budget_calls" );
+
+			for ( Invocation invocation : invocations ) {
+				write( writer, invocation );
+				classes.computeIfAbsent( invocation.className, className -> new Invocation( KIND_CLASS, className, "" ) )
+						.allocations.add( invocation.allocations );
+			}
+			for ( Invocation classTotal : classes.values() ) {
+				write( writer, classTotal );
+			}
+		}
+	}
+
+	private static void write(PrintWriter writer, Invocation invocation) {
+		Allocations allocations = invocation.allocations;
+		writer.print( invocation.kind );
+		writer.print( ',' );
+		writer.print( invocation.className );
+		writer.print( ',' );
+		writer.print( invocation.methodName );
+		writer.print( ',' );
+		writer.print( allocations.getMethodBytes() );
+		writer.print( ',' );
+		writer.print( allocations.getValidationCalls() );
+		writer.print( ',' );
+		writer.print( allocations.getValidationBytes() );
+		writer.print( ',' );
+		writer.print( average( allocations.getValidationBytes(), allocations.getValidationCalls() ) );
+		writer.print( ',' );
+		writer.print( allocations.getValidCalls() );
+		writer.print( ',' );
+		writer.print( allocations.getValidBytes() );
+		writer.print( ',' );
+		writer.print( average( allocations.getValidBytes(), allocations.getValidCalls() ) );
+		writer.print( ',' );
+		writer.print( allocations.getMaxValidCallBytes() );
+		writer.print( ',' );
+		writer.print( allocations.getOverBudgetCalls() );
+		writer.println();
+	}
+
+	private static String average(long bytes, long calls) {
+		return calls == 0 ? "" : String.format( Locale.ROOT, "%.1f", (double) bytes / calls );
+	}
+
+	/**
+	 * The allocations of a test method invocation, or the aggregated allocations of a test class.
+	 */
+	private static class Invocation {
+
+		private final String kind;
+
+		private final String className;
+
+		private final String methodName;
+
+		private final Allocations allocations;
+
+		private long start;
+
+		private Invocation(String kind, String className, String methodName) {
+			this.kind = kind;
+			this.className = className;
+			this.methodName = methodName;
+			this.allocations = new Allocations( methodName.isEmpty() ? className : className + "#" + methodName );
+		}
+	}
+}
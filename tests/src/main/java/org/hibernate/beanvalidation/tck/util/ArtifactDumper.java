@@ -7,22 +7,46 @@
 package org.hibernate.beanvalidation.tck.util;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
-import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.URLPackageScanner;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.Asset;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 
 /**
  * This class builds the test artifacts and writes them to disk.
  *
  * The artifacts are just created for debugging purposes. They are not part of the TCK artifacts.
+ * <p>
+ * The test classes are processed in parallel. The dump is incremental: a checksum of the content of each archive is
+ * stored alongside the artifacts and an archive is only exported again if its content changed. Artifacts of test
+ * classes which do not exist anymore are deleted.
  *
  * @author Hardy Ferentschik
  */
@@ -30,6 +54,13 @@ public class ArtifactDumper {
 	private static Logger logger = Logger.getLogger( ArtifactDumper.class.getName() );
 	private static File artifactDir;
 
+	/**
+	 * Name of the file storing the checksums of the content of the exported archives.
+	 */
+	private static final String CHECKSUMS_FILE_NAME = ".checksums";
+
+	private static final String ARTIFACT_EXTENSION = ".war";
+
 	static {
 		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
 		// get a URL reference to something we now is part of the classpath (our own classes)
@@ -46,90 +77,154 @@ public class ArtifactDumper {
 		}
 
 		artifactDir = new File( targetDir, "artifacts" );
-		if ( artifactDir.exists() ) {
-			for ( File f : artifactDir.listFiles() ) {
-				delete( f );
-			}
-		}
-		else {
-
-			if ( !artifactDir.mkdirs() ) {
-				throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
-			}
+		if ( !artifactDir.exists() && !artifactDir.mkdirs() ) {
+			throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
 		}
 	}
 
 	public static void main(String[] args) throws Exception {
-		List<Class<?>> testClasses = getClassesForPackage( "org.hibernate.beanvalidation.tck" );
-		for ( Class<?> clazz : testClasses ) {
-			processClass( clazz );
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		List<Class<?>> testClasses = getClassesForPackage( "org.hibernate.beanvalidation.tck", contextClassLoader );
+
+		Properties previousChecksums = loadChecksums();
+		ConcurrentMap<String, String> checksums = new ConcurrentHashMap<>();
+		AtomicInteger exported = new AtomicInteger();
+
+		// the archive builders rely on the context class loader
+		ExecutorService executor = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors(), runnable -> {
+			Thread thread = new Thread( runnable, "artifact-dumper" );
+			thread.setContextClassLoader( contextClassLoader );
+			thread.setDaemon( true );
+			return thread;
+		} );
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for ( Class<?> clazz : testClasses ) {
+				results.add( executor.submit( () -> {
+					processClass( clazz, previousChecksums, checksums, exported );
+					return null;
+				} ) );
+			}
+			for ( Future<?> result : results ) {
+				result.get();
+			}
 		}
+		finally {
+			executor.shutdown();
+		}
+
+		deleteStaleArtifacts( checksums.keySet() );
+		storeChecksums( checksums );
+
+		logger.info( "Exported " + exported.get() + " of " + checksums.size() + " artifacts to " + artifactDir.getPath()
+				+ ", the others are up to date" );
 	}
 
-	private static void processClass(Class<?> clazz) throws Exception {
+	private static void processClass(Class<?> clazz, Properties previousChecksums, ConcurrentMap<String, String> checksums,
+			AtomicInteger exported) throws Exception {
 		for ( Method m : clazz.getMethods() ) {
 			if ( m.isAnnotationPresent( Deployment.class ) ) {
 				Object o = clazz.newInstance();
 				Archive<?> archive = (Archive<?>) m.invoke( o );
 				logger.fine( archive.toString( true ) );
-				archive.as( ZipExporter.class ).exportTo( new File( artifactDir, clazz.getName() + ".war" ), true );
+
+				String fileName = clazz.getName() + ARTIFACT_EXTENSION;
+				String checksum = getChecksum( archive );
+				checksums.put( fileName, checksum );
+
+				File file = new File( artifactDir, fileName );
+				if ( !file.exists() || !checksum.equals( previousChecksums.getProperty( fileName ) ) ) {
+					archive.as( ZipExporter.class ).exportTo( file, true );
+					exported.incrementAndGet();
+				}
 			}
 		}
 	}
 
-	private static List<Class<?>> getClassesForPackage(String packageName) throws ClassNotFoundException {
-		ArrayList<File> directories = findDirectoriesContainingClassesOfPackage( packageName );
+	private static List<Class<?>> getClassesForPackage(String packageName, ClassLoader classLoader) {
+		List<String> classNames = new ArrayList<>();
+		URLPackageScanner.newInstance( true, classLoader, classNames::add, packageName ).scanPackage();
 
-		ArrayList<Class<?>> classes = new ArrayList<Class<?>>();
-		// For every directory identified capture all the .class files
-		for ( File directory : directories ) {
-			if ( directory.exists() ) {
-				addClassesForPackage( packageName, classes, directory );
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for ( String className : classNames ) {
+			try {
+				classes.add( Class.forName( className ) );
+			}
+			catch( ClassNotFoundException e ) {
+				// do nothing. this class hasn't been found by the loader, and we don't care.
 			}
 		}
 		return classes;
 	}
 
-	private static ArrayList<File> findDirectoriesContainingClassesOfPackage(String packageName) {
-		ArrayList<File> directories = new ArrayList<File>();
-		try {
-			ClassLoader cld = Thread.currentThread().getContextClassLoader();
-			String path = packageName.replace( '.', File.separatorChar );
-			// Ask for all resources for the path
-			Enumeration<URL> resources = cld.getResources( path );
-			while ( resources.hasMoreElements() ) {
-				directories.add( new File( URLDecoder.decode( resources.nextElement().getPath(), "UTF-8" ) ) );
+	/**
+	 * @return a checksum of the paths and assets of the given archive, which does not depend on the archive name nor on
+	 * the timestamps of the exported entries
+	 */
+	private static String getChecksum(Archive<?> archive) throws IOException {
+		MessageDigest digest = getMessageDigest();
+
+		Map<String, Node> content = new TreeMap<>();
+		for ( Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet() ) {
+			content.put( entry.getKey().get(), entry.getValue() );
+		}
+
+		byte[] buffer = new byte[4096];
+		for ( Map.Entry<String, Node> entry : content.entrySet() ) {
+			digest.update( entry.getKey().getBytes( StandardCharsets.UTF_8 ) );
+			digest.update( (byte) 0 );
+
+			Asset asset = entry.getValue().getAsset();
+			if ( asset != null ) {
+				try ( InputStream in = asset.openStream() ) {
+					int read;
+					while ( ( read = in.read( buffer ) ) != -1 ) {
+						digest.update( buffer, 0, read );
+					}
+				}
 			}
+			digest.update( (byte) 0 );
 		}
-		catch( Exception e ) {
-			throw new RuntimeException( e.getMessage(), e );
+
+		StringBuilder checksum = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			checksum.append( String.format( "%02x", b ) );
 		}
-		return directories;
+		return checksum.toString();
 	}
 
-	private static void addClassesForPackage(String packageName, ArrayList<Class<?>> classes, File directory) {
-		assert directory != null;
-		File[] files = directory.listFiles();
-		if ( files == null ) { // directory is not really a directory ;-)
-			return;
-		}
-		for ( File file : files ) {
-			if ( file.getAbsolutePath().endsWith( ".class" ) ) {
-				// removes the .class extension
-				String className = file.getPath().substring( 0, file.getPath().length() - 6 );
-				className = className.replace( File.separatorChar, '.' );
-				className = className.substring( className.indexOf( packageName ) );
-
-				try {
-					Class<?> clazz = Class.forName( className );
-					classes.add( clazz );
-				}
-				catch( ClassNotFoundException e ) {
-					// do nothing. this class hasn't been found by the loader, and we don't care.
-				}
+	private static MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException( "Unable to compute the checksums of the artifacts", e );
+		}
+	}
+
+	private static Properties loadChecksums() throws IOException {
+		Properties checksums = new Properties();
+		File checksumsFile = new File( artifactDir, CHECKSUMS_FILE_NAME );
+		if ( checksumsFile.exists() ) {
+			try ( InputStream in = new FileInputStream( checksumsFile ) ) {
+				checksums.load( in );
 			}
-			else if ( file.isDirectory() ) {
-				addClassesForPackage( packageName, classes, file );
+		}
+		return checksums;
+	}
+
+	private static void storeChecksums(Map<String, String> checksums) throws IOException {
+		Properties properties = new Properties();
+		properties.putAll( checksums );
+		try ( OutputStream out = new FileOutputStream( new File( artifactDir, CHECKSUMS_FILE_NAME ) ) ) {
+			properties.store( out, "Checksums of the content of the exported artifacts" );
+		}
+	}
+
+	private static void deleteStaleArtifacts(Set<String> fileNames) {
+		for ( File f : artifactDir.listFiles() ) {
+			if ( !f.getName().equals( CHECKSUMS_FILE_NAME ) && !fileNames.contains( f.getName() ) ) {
+				delete( f );
 			}
 		}
 	}
@@ -145,5 +240,3 @@ public class ArtifactDumper {
 		}
 	}
 }
-
-
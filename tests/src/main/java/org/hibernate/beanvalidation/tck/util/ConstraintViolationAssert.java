@@ -6,14 +6,20 @@
  */
 package org.hibernate.beanvalidation.tck.util;
 
+import static org.assertj.core.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ElementKind;
@@ -21,6 +27,7 @@ import jakarta.validation.Path;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.IterableAssert;
+import org.assertj.core.internal.StandardComparisonStrategy;
 
 /**
  * This class provides useful functions to assert correctness of constraint violations raised
@@ -57,6 +64,10 @@ public final class ConstraintViolationAssert {
 		return new ConstraintViolationSetAssert( actualViolations );
 	}
 
+	public static ConstraintViolationStreamAssert assertThatViolationStream(Stream<? extends ConstraintViolation<?>> actualViolations) {
+		return new ConstraintViolationStreamAssert( actualViolations );
+	}
+
 	/**
 	 * Asserts that the error message, root bean class, invalid value and property path of the given violation are equal
 	 * to the expected message, root bean class, invalid value and propertyPath.
@@ -183,32 +194,31 @@ public final class ConstraintViolationAssert {
 
 		protected ConstraintViolationSetAssert(Set<? extends ConstraintViolation<?>> actualViolations) {
 			super( actualViolations );
+			HarnessHooks.violationsAsserted( actualViolations );
 		}
 
+		/**
+		 * Asserts that the violations match the given expected violations, in any order. The violations are matched in
+		 * linear time by hashing the expected violations on their tested properties (among which the constraint type
+		 * and the property path), so this assertion can be used on large sets of violations.
+		 */
 		public void containsOnlyViolations(ViolationExpectation... expectedViolations) {
 			isNotNull();
 
-			List<ViolationExpectation> actualViolations = new ArrayList<>();
-
-			ViolationExpectationPropertiesToTest referencePropertiesToTest;
-			if ( expectedViolations.length == 0 ) {
-				referencePropertiesToTest = ViolationExpectationPropertiesToTest.all();
+			ViolationExpectationMultiset remainingViolations = new ViolationExpectationMultiset( expectedViolations );
+			for ( ConstraintViolation<?> violation : actual ) {
+				remainingViolations.match( violation );
 			}
-			else {
-				referencePropertiesToTest = expectedViolations[0].propertiesToTest;
-				for ( ViolationExpectation expectedViolation : expectedViolations ) {
-					if ( !referencePropertiesToTest.equals( expectedViolation.propertiesToTest ) ) {
-						throw new IllegalArgumentException( String.format( "Expected violations passed in parameter must test the exact same properties but do not: %1$s != %2$s",
-								expectedViolations[0], expectedViolation ) );
-					}
+
+			if ( !remainingViolations.isEmpty() ) {
+				List<ViolationExpectation> actualViolations = new ArrayList<>();
+				for ( ConstraintViolation<?> violation : actual ) {
+					actualViolations.add( new ViolationExpectation( violation, remainingViolations.propertiesToTest ) );
 				}
-			}
 
-			for ( ConstraintViolation<?> violation : actual ) {
-				actualViolations.add( new ViolationExpectation( violation, referencePropertiesToTest ) );
+				throwAssertionError( shouldContainExactlyInAnyOrder( actualViolations, expectedViolations,
+						remainingViolations.getNotFound(), remainingViolations.unexpectedViolations, StandardComparisonStrategy.instance() ) );
 			}
-
-			Assertions.assertThat( actualViolations ).containsExactlyInAnyOrder( expectedViolations );
 		}
 
 		public void containsOnlyPaths(PathExpectation... paths) {
@@ -245,6 +255,120 @@ public final class ConstraintViolationAssert {
 		}
 	}
 
+	/**
+	 * Assertions on a stream of violations, e.g. the violations of a bulk validation, consuming the violations one at a
+	 * time instead of collecting them.
+	 */
+	public static class ConstraintViolationStreamAssert {
+
+		private final Stream<? extends ConstraintViolation<?>> actual;
+
+		protected ConstraintViolationStreamAssert(Stream<? extends ConstraintViolation<?>> actualViolations) {
+			this.actual = actualViolations;
+		}
+
+		/**
+		 * Asserts that the streamed violations match the given expected violations, in any order. Only the expected
+		 * violations not matched yet and the unexpected violations are kept while consuming the stream.
+		 */
+		public void containsOnlyViolations(ViolationExpectation... expectedViolations) {
+			Assertions.assertThat( actual ).as( "streamed violations" ).isNotNull();
+
+			ViolationExpectationMultiset remainingViolations = new ViolationExpectationMultiset( expectedViolations );
+			long violationCount = 0;
+			for ( Iterator<? extends ConstraintViolation<?>> violations = actual.iterator(); violations.hasNext(); ) {
+				remainingViolations.match( violations.next() );
+				violationCount++;
+			}
+
+			if ( !remainingViolations.isEmpty() ) {
+				fail( String.format(
+						"%nExpecting the %s streamed violations to contain exactly in any order:%n  <%s>%nelements not found:%n  <%s>%nand elements not expected:%n  <%s>%n",
+						violationCount,
+						STANDARD_REPRESENTATION.toStringOf( expectedViolations ),
+						STANDARD_REPRESENTATION.toStringOf( remainingViolations.getNotFound() ),
+						STANDARD_REPRESENTATION.toStringOf( remainingViolations.unexpectedViolations )
+				) );
+			}
+		}
+	}
+
+	/**
+	 * A multiset of expected violations from which actual violations are removed as they are matched, the lookup of an
+	 * actual violation being done in constant time by hashing.
+	 */
+	private static class ViolationExpectationMultiset {
+
+		private final ViolationExpectation[] expectedViolations;
+
+		private final ViolationExpectationPropertiesToTest propertiesToTest;
+
+		private final Map<ViolationExpectation, Integer> remainingCounts = new HashMap<>();
+
+		private final List<ViolationExpectation> unexpectedViolations = new ArrayList<>();
+
+		private ViolationExpectationMultiset(ViolationExpectation... expectedViolations) {
+			this.expectedViolations = expectedViolations;
+
+			if ( expectedViolations.length == 0 ) {
+				propertiesToTest = ViolationExpectationPropertiesToTest.all();
+			}
+			else {
+				propertiesToTest = expectedViolations[0].propertiesToTest;
+				for ( ViolationExpectation expectedViolation : expectedViolations ) {
+					if ( !propertiesToTest.equals( expectedViolation.propertiesToTest ) ) {
+						throw new IllegalArgumentException( String.format( "Expected violations passed in parameter must test the exact same properties but do not: %1$s != %2$s",
+								expectedViolations[0], expectedViolation ) );
+					}
+				}
+			}
+
+			for ( ViolationExpectation expectedViolation : expectedViolations ) {
+				remainingCounts.merge( expectedViolation, 1, Integer::sum );
+			}
+		}
+
+		/**
+		 * Removes the given violation from the expected violations, or records it as unexpected.
+		 */
+		private void match(ConstraintViolation<?> violation) {
+			ViolationExpectation actualViolation = new ViolationExpectation( violation, propertiesToTest );
+			Integer remainingCount = remainingCounts.get( actualViolation );
+			if ( remainingCount == null ) {
+				unexpectedViolations.add( actualViolation );
+			}
+			else if ( remainingCount == 1 ) {
+				remainingCounts.remove( actualViolation );
+			}
+			else {
+				remainingCounts.put( actualViolation, remainingCount - 1 );
+			}
+		}
+
+		/**
+		 * @return {@code true} if all the expected violations were matched and no unexpected violation was found
+		 */
+		private boolean isEmpty() {
+			return remainingCounts.isEmpty() && unexpectedViolations.isEmpty();
+		}
+
+		/**
+		 * @return the expected violations not matched, in the order they were expected
+		 */
+		private List<ViolationExpectation> getNotFound() {
+			Map<ViolationExpectation, Integer> notFoundCounts = new HashMap<>( remainingCounts );
+			List<ViolationExpectation> notFound = new ArrayList<>();
+			for ( ViolationExpectation expectedViolation : expectedViolations ) {
+				Integer notFoundCount = notFoundCounts.get( expectedViolation );
+				if ( notFoundCount != null && notFoundCount > 0 ) {
+					notFound.add( expectedViolation );
+					notFoundCounts.put( expectedViolation, notFoundCount - 1 );
+				}
+			}
+			return notFound;
+		}
+	}
+
 	public static class ViolationExpectation {
 
 		private final ViolationExpectationPropertiesToTest propertiesToTest = new ViolationExpectationPropertiesToTest();
@@ -0,0 +1,60 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.Collection;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Optional hook of the harness instrumentation (timing, footprint and allocation reports), notified by the helpers
+ * deployed with the tests.
+ * <p>
+ * The hooks are looked up by {@link HarnessHooks} with the service loader, so that the helpers do not depend on the
+ * instrumentation. Only the enabled hooks are kept.
+ */
+public interface HarnessHook {
+
+	/**
+	 * The measured parts of the harness overhead.
+	 */
+	enum Phase {
+		ARCHIVE_BUILD,
+		/**
+		 * The collection of the merged archives of the suite mode, once per JVM, included in the archive building.
+		 */
+		SUITE_ARCHIVE_BUILD,
+		DEPLOYMENT,
+		UNDEPLOYMENT,
+		PROVIDER_BOOTSTRAP
+	}
+
+	/**
+	 * @return {@code true} if the instrumentation of this hook is enabled
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @return the validator to hand out to the tests instead of the given validator of the provider under test
+	 */
+	default Validator decorate(Validator validator) {
+		return validator;
+	}
+
+	/**
+	 * Notifies the hook that the given phase of the harness took the given time in the current thread.
+	 */
+	default void phaseEnded(Phase phase, long elapsedNanos) {
+	}
+
+	/**
+	 * Notifies the hook that the given violations are being asserted by the current thread.
+	 */
+	default void violationsAsserted(Collection<? extends ConstraintViolation<?>> violations) {
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.hibernate.beanvalidation.tck.util.HarnessHook.Phase;
+
+/**
+ * The enabled {@link HarnessHook}s, looked up once with the service loader of the class loader of this class.
+ * <p>
+ * The hooks are registered in the TCK jar and are not part of the deployments: they are found where the TCK jar is
+ * visible, e.g. in the standalone container, and the notifications are no-ops elsewhere or when no report is enabled.
+ */
+public final class HarnessHooks {
+
+	private static final List<HarnessHook> hooks = loadHooks();
+
+	private HarnessHooks() {
+	}
+
+	/**
+	 * @return the classes implementing the enabled hooks, which the deployments must contain to be instrumented in a
+	 * container seeing the TCK jar
+	 */
+	public static Class<?>[] getHookClasses() {
+		List<Class<?>> classes = new ArrayList<>();
+		for ( HarnessHook hook : hooks ) {
+			Class<?> hookClass = hook.getClass();
+			// the hooks are nested in the classes implementing the instrumentation
+			while ( hookClass.getEnclosingClass() != null ) {
+				hookClass = hookClass.getEnclosingClass();
+			}
+			classes.add( hookClass );
+		}
+		return classes.toArray( new Class<?>[classes.size()] );
+	}
+
+	public static Validator decorate(Validator validator) {
+		Validator decorated = validator;
+		for ( HarnessHook hook : hooks ) {
+			decorated = hook.decorate( decorated );
+		}
+		return decorated;
+	}
+
+	/**
+	 * @return the start time of a measure, to be passed to {@link #stop(Phase, long)}
+	 */
+	public static long start() {
+		return hooks.isEmpty() ? 0L : System.nanoTime();
+	}
+
+	/**
+	 * Notifies the hooks of the time elapsed since the given start time in the given phase.
+	 */
+	public static void stop(Phase phase, long start) {
+		if ( hooks.isEmpty() ) {
+			return;
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		for ( HarnessHook hook : hooks ) {
+			hook.phaseEnded( phase, elapsedNanos );
+		}
+	}
+
+	public static void violationsAsserted(Collection<? extends ConstraintViolation<?>> violations) {
+		for ( HarnessHook hook : hooks ) {
+			hook.violationsAsserted( violations );
+		}
+	}
+
+	private static List<HarnessHook> loadHooks() {
+		List<HarnessHook> enabledHooks = new ArrayList<>();
+		for ( HarnessHook hook : ServiceLoader.load( HarnessHook.class, HarnessHooks.class.getClassLoader() ) ) {
+			if ( hook.isEnabled() ) {
+				enabledHooks.add( hook );
+			}
+		}
+		return Collections.unmodifiableList( enabledHooks );
+	}
+}
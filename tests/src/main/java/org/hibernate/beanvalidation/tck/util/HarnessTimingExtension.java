@@ -0,0 +1,63 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import org.hibernate.beanvalidation.tck.util.HarnessHook.Phase;
+import org.jboss.arquillian.container.spi.event.container.AfterDeploy;
+import org.jboss.arquillian.container.spi.event.container.AfterUnDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeUnDeploy;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.LoadableExtension;
+
+/**
+ * Arquillian extension measuring the time spent by the container to deploy and undeploy the test archives for the
+ * timing report (see {@link HarnessTimings}).
+ * <p>
+ * The measure is taken between the events fired around the deployment operations of the container, so it works with
+ * any container adapter.
+ */
+public class HarnessTimingExtension implements LoadableExtension {
+
+	@Override
+	public void register(ExtensionBuilder builder) {
+		if ( HarnessTimings.isEnabled() ) {
+			builder.observer( DeploymentTimer.class );
+		}
+	}
+
+	public static class DeploymentTimer {
+
+		private final ThreadLocal<Long> deploymentStart = new ThreadLocal<>();
+
+		private final ThreadLocal<Long> undeploymentStart = new ThreadLocal<>();
+
+		public void beforeDeploy(@Observes BeforeDeploy event) {
+			deploymentStart.set( HarnessHooks.start() );
+		}
+
+		public void afterDeploy(@Observes AfterDeploy event) {
+			stop( Phase.DEPLOYMENT, deploymentStart );
+		}
+
+		public void beforeUnDeploy(@Observes BeforeUnDeploy event) {
+			undeploymentStart.set( HarnessHooks.start() );
+		}
+
+		public void afterUnDeploy(@Observes AfterUnDeploy event) {
+			stop( Phase.UNDEPLOYMENT, undeploymentStart );
+		}
+
+		private static void stop(Phase phase, ThreadLocal<Long> start) {
+			Long startTime = start.get();
+			if ( startTime != null ) {
+				HarnessHooks.stop( phase, startTime );
+				start.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import org.hibernate.beanvalidation.tck.util.HarnessHook.Phase;
+
+/**
+ * Measure of the overhead of the test harness (archive building, deployment, provider bootstrap) for the timing report
+ * written by {@link TimingReportListener}.
+ * <p>
+ * The {@link Hook} is only enabled if the report is enabled via the {@code timingReport} system property. The times
+ * notified to the hook are attributed to the test or configuration method being invoked by the current thread, so
+ * the phases executed in a remote container are not measured.
+ */
+public final class HarnessTimings {
+
+	/**
+	 * Name of the system property giving the path of the timing report.
+	 */
+	public static final String TIMING_REPORT_PROPERTY = "timingReport";
+
+	private static final boolean enabled = System.getProperty( TIMING_REPORT_PROPERTY ) != null;
+
+	private static final ThreadLocal<Timings> currentTimings = new ThreadLocal<>();
+
+	private HarnessTimings() {
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	static void begin(Timings timings) {
+		currentTimings.set( timings );
+	}
+
+	static void end() {
+		currentTimings.remove();
+	}
+
+	/**
+	 * Attributes the phases of the harness to the current method.
+	 */
+	public static class Hook implements HarnessHook {
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public void phaseEnded(Phase phase, long elapsedNanos) {
+			Timings timings = currentTimings.get();
+			if ( timings != null ) {
+				timings.add( phase, elapsedNanos );
+			}
+		}
+	}
+
+	/**
+	 * The time spent in each phase and the number of measures of each phase.
+	 */
+	static class Timings {
+
+		private final long[] nanos = new long[Phase.values().length];
+
+		private final int[] counts = new int[Phase.values().length];
+
+		synchronized void add(Phase phase, long elapsedNanos) {
+			nanos[phase.ordinal()] += elapsedNanos;
+			counts[phase.ordinal()]++;
+		}
+
+		synchronized void add(Timings timings) {
+			for ( int i = 0; i < nanos.length; i++ ) {
+				nanos[i] += timings.nanos[i];
+				counts[i] += timings.counts[i];
+			}
+		}
+
+		synchronized long getNanos(Phase phase) {
+			return nanos[phase.ordinal()];
+		}
+
+		synchronized int getCount(Phase phase) {
+			return counts[phase.ordinal()];
+		}
+	}
+}
@@ -0,0 +1,25 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class altering JVM wide state (e.g. the default locale), which must not be executed concurrently with
+ * other test classes (see {@link JvmWideStateTestsMethodSelector}). The annotated classes must be listed in the
+ * {@code <test>} of {@code tck-tests.xml} dedicated to them.
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface JvmWideStateTest {
+}
@@ -0,0 +1,52 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.List;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which will, depending on the <i>jvmWideStateTests</i> parameter of the {@code <test>} and the
+ * existence of the {@code @JvmWideStateTest} annotation on a test class, in- or exclude the test.
+ * <p>
+ * The tests of the annotated classes are only included in the {@code <test>}s whose parameter is {@code true}, the
+ * tests of the other classes in the other {@code <test>}s. Declaring a {@code <test>} with the parameter and listing
+ * the annotated classes, excluded from the parallel execution mode of the standalone container, ensures the classes
+ * altering JVM wide state are not executed concurrently with other classes, even when the suite is executed in
+ * parallel.
+ */
+public class JvmWideStateTestsMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the {@code <test>} parameter selecting the tests altering JVM wide state.
+	 */
+	private static final String JVM_WIDE_STATE_TESTS = "jvmWideStateTests";
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( !isTestMethod || method.getXmlTest() == null ) {
+			return true;
+		}
+
+		boolean jvmWideStateTest = method.getConstructorOrMethod().getDeclaringClass().isAnnotationPresent( JvmWideStateTest.class );
+		boolean jvmWideStateTests = Boolean.parseBoolean( method.getXmlTest().getParameter( JVM_WIDE_STATE_TESTS ) );
+		if ( jvmWideStateTest != jvmWideStateTests ) {
+			context.setStopped( true );
+			return false;
+		}
+		else {
+			return true;
+		}
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+}
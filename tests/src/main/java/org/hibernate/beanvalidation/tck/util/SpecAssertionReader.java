@@ -0,0 +1,213 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads the {@code @SpecAssertion} annotations of the methods of a class from its class file.
+ * <p>
+ * The annotations of the test audit API have the class retention, so they are not available through reflection: the
+ * method attributes containing the annotations ({@code RuntimeInvisibleAnnotations}, as well as
+ * {@code RuntimeVisibleAnnotations} should the retention change) are read from the class file instead, following the
+ * class file format of the JVM specification.
+ */
+final class SpecAssertionReader {
+
+	private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+	private static final String SPEC_ASSERTION = "Lorg/jboss/test/audit/annotations/SpecAssertion;";
+
+	private static final String SPEC_ASSERTIONS = "Lorg/jboss/test/audit/annotations/SpecAssertions;";
+
+	private static final String SECTION = "section";
+
+	private final DataInputStream in;
+
+	private Object[] constantPool;
+
+	private SpecAssertionReader(InputStream classFile) {
+		this.in = new DataInputStream( classFile );
+	}
+
+	/**
+	 * @return the sections of the {@code @SpecAssertion} annotations of the methods of the given class file, by method
+	 * name, the methods without annotation being omitted
+	 */
+	static Map<String, Set<String>> readSections(InputStream classFile) throws IOException {
+		return new SpecAssertionReader( classFile ).readMethods();
+	}
+
+	private Map<String, Set<String>> readMethods() throws IOException {
+		if ( in.readInt() != CLASS_FILE_MAGIC ) {
+			throw new IOException( "Not a class file" );
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+		readConstantPool();
+
+		in.readUnsignedShort(); // access flags
+		in.readUnsignedShort(); // this class
+		in.readUnsignedShort(); // super class
+		skip( 2 * in.readUnsignedShort() ); // interfaces
+
+		int fieldCount = in.readUnsignedShort();
+		for ( int i = 0; i < fieldCount; i++ ) {
+			skip( 6 ); // access flags, name, descriptor
+			skipAttributes();
+		}
+
+		Map<String, Set<String>> sectionsByMethod = new HashMap<>();
+		int methodCount = in.readUnsignedShort();
+		for ( int i = 0; i < methodCount; i++ ) {
+			in.readUnsignedShort(); // access flags
+			String name = getUtf8( in.readUnsignedShort() );
+			in.readUnsignedShort(); // descriptor
+
+			Set<String> sections = new TreeSet<>();
+			int attributeCount = in.readUnsignedShort();
+			for ( int j = 0; j < attributeCount; j++ ) {
+				String attributeName = getUtf8( in.readUnsignedShort() );
+				int length = in.readInt();
+				if ( "RuntimeInvisibleAnnotations".equals( attributeName ) || "RuntimeVisibleAnnotations".equals( attributeName ) ) {
+					int annotationCount = in.readUnsignedShort();
+					for ( int k = 0; k < annotationCount; k++ ) {
+						readAnnotation( sections );
+					}
+				}
+				else {
+					skip( length );
+				}
+			}
+			if ( !sections.isEmpty() ) {
+				sectionsByMethod.computeIfAbsent( name, k -> new TreeSet<>() ).addAll( sections );
+			}
+		}
+		return sectionsByMethod;
+	}
+
+	private void readConstantPool() throws IOException {
+		int count = in.readUnsignedShort();
+		constantPool = new Object[count];
+		for ( int i = 1; i < count; i++ ) {
+			int tag = in.readUnsignedByte();
+			switch ( tag ) {
+				case 1: // Utf8
+					constantPool[i] = in.readUTF();
+					break;
+				case 5: // Long
+				case 6: // Double
+					skip( 8 );
+					i++;
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					skip( 4 );
+					break;
+				case 15: // MethodHandle
+					skip( 3 );
+					break;
+				case 7: // Class
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					skip( 2 );
+					break;
+				default:
+					throw new IOException( "Unknown constant pool tag " + tag );
+			}
+		}
+	}
+
+	/**
+	 * Reads an annotation, adding its section to the given sections if it is a {@code @SpecAssertion} annotation or
+	 * the sections of the annotations it contains if it is a {@code @SpecAssertions} annotation.
+	 */
+	private void readAnnotation(Set<String> sections) throws IOException {
+		String type = getUtf8( in.readUnsignedShort() );
+		int elementCount = in.readUnsignedShort();
+		for ( int i = 0; i < elementCount; i++ ) {
+			String elementName = getUtf8( in.readUnsignedShort() );
+			if ( SPEC_ASSERTION.equals( type ) && SECTION.equals( elementName ) ) {
+				readElementValue( sections, true );
+			}
+			else {
+				readElementValue( SPEC_ASSERTIONS.equals( type ) ? sections : null, false );
+			}
+		}
+	}
+
+	/**
+	 * Reads an element value, adding it to the given sections if it is a section, or reading the nested
+	 * {@code @SpecAssertion} annotations if sections are given.
+	 */
+	private void readElementValue(Set<String> sections, boolean section) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch ( tag ) {
+			case 's':
+				int index = in.readUnsignedShort();
+				if ( section ) {
+					sections.add( getUtf8( index ) );
+				}
+				break;
+			case 'B':
+			case 'C':
+			case 'D':
+			case 'F':
+			case 'I':
+			case 'J':
+			case 'S':
+			case 'Z':
+			case 'c':
+				skip( 2 );
+				break;
+			case 'e':
+				skip( 4 );
+				break;
+			case '@':
+				readAnnotation( sections != null ? sections : new TreeSet<>() );
+				break;
+			case '[':
+				int valueCount = in.readUnsignedShort();
+				for ( int i = 0; i < valueCount; i++ ) {
+					readElementValue( sections, section );
+				}
+				break;
+			default:
+				throw new IOException( "Unknown element value tag " + (char) tag );
+		}
+	}
+
+	private void skipAttributes() throws IOException {
+		int attributeCount = in.readUnsignedShort();
+		for ( int i = 0; i < attributeCount; i++ ) {
+			in.readUnsignedShort(); // name
+			skip( in.readInt() );
+		}
+	}
+
+	private void skip(int length) throws IOException {
+		in.readFully( new byte[length] );
+	}
+
+	private String getUtf8(int index) {
+		return (String) constantPool[index];
+	}
+}
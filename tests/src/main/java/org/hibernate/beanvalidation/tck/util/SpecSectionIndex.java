@@ -0,0 +1,179 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.URLPackageScanner;
+
+/**
+ * Index of the specification sections covered by the test methods of the TCK, as given by their
+ * {@code @SpecAssertion} annotations.
+ * <p>
+ * As these annotations are not retained at runtime, the index is generated at build time by the
+ * {@link #main(String[])} method, reading the annotations from the class files (see {@link SpecAssertionReader}),
+ * into the {@value #INDEX_RESOURCE} resource of the TCK. The resource has a line per test method mapping the method,
+ * identified by the name of its declaring class and its name, to the identifiers of the sections it covers. The
+ * sections of the classes missing from the resource, or of all the classes if the resource is not available (e.g.
+ * when the TCK is executed from an IDE without running the build), are read from their class files when first
+ * requested.
+ * <p>
+ * The identifiers of the sections are hierarchical: the identifier of a section is prefixed by the identifier of its
+ * parent section followed by {@code -}, e.g. {@code validationapi-message-defaultmessageinterpolation} is a
+ * subsection of {@code validationapi-message}.
+ */
+public final class SpecSectionIndex {
+
+	private static final Logger log = Logger.getLogger( SpecSectionIndex.class.getName() );
+
+	/**
+	 * Name of the resource containing the index.
+	 */
+	public static final String INDEX_RESOURCE = "tck-section-index.properties";
+
+	private static final String TESTS_PACKAGE = "org.hibernate.beanvalidation.tck.tests";
+
+	private static volatile SpecSectionIndex instance;
+
+	private final ConcurrentMap<String, Map<String, Set<String>>> sectionsByClass;
+
+	private SpecSectionIndex(ConcurrentMap<String, Map<String, Set<String>>> sectionsByClass) {
+		this.sectionsByClass = sectionsByClass;
+	}
+
+	/**
+	 * Writes the index of the test methods of the TCK to the file given as first argument.
+	 */
+	public static void main(String[] args) throws IOException {
+		if ( args.length != 1 ) {
+			throw new IllegalArgumentException( "Usage: SpecSectionIndex <index file>" );
+		}
+
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		List<String> classNames = new ArrayList<>();
+		URLPackageScanner.newInstance( true, classLoader, classNames::add, TESTS_PACKAGE ).scanPackage();
+
+		Map<String, Set<String>> sectionsByMethod = new TreeMap<>();
+		for ( String className : classNames ) {
+			for ( Map.Entry<String, Set<String>> method : readSections( classLoader, className ).entrySet() ) {
+				sectionsByMethod.put( getKey( className, method.getKey() ), method.getValue() );
+			}
+		}
+
+		File index = new File( args[0] );
+		if ( index.getAbsoluteFile().getParentFile() != null ) {
+			Files.createDirectories( index.getAbsoluteFile().getParentFile().toPath() );
+		}
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( index.toPath(), StandardCharsets.ISO_8859_1 ) ) ) {
+			writer.println( "# Specification sections covered by the test methods of the TCK, generated by " + SpecSectionIndex.class.getName() );
+			for ( Map.Entry<String, Set<String>> entry : sectionsByMethod.entrySet() ) {
+				writer.println( entry.getKey() + "=" + String.join( ",", entry.getValue() ) );
+			}
+		}
+
+		log.info( "Indexed the specification sections of " + sectionsByMethod.size() + " test methods in " + index.getPath() );
+	}
+
+	/**
+	 * @return the index of the TCK, loaded from the {@value #INDEX_RESOURCE} resource the first time it is requested
+	 */
+	public static SpecSectionIndex getInstance() {
+		if ( instance == null ) {
+			synchronized ( SpecSectionIndex.class ) {
+				if ( instance == null ) {
+					instance = load( SpecSectionIndex.class.getClassLoader() );
+				}
+			}
+		}
+		return instance;
+	}
+
+	private static SpecSectionIndex load(ClassLoader classLoader) {
+		ConcurrentMap<String, Map<String, Set<String>>> sectionsByClass = new ConcurrentHashMap<>();
+		try ( InputStream in = classLoader.getResourceAsStream( INDEX_RESOURCE ) ) {
+			if ( in == null ) {
+				log.warning( INDEX_RESOURCE + " not found, the specification sections are read from the class files of the tests" );
+			}
+			else {
+				Properties index = new Properties();
+				index.load( in );
+				for ( String key : index.stringPropertyNames() ) {
+					int separator = key.indexOf( '#' );
+					Set<String> sections = new TreeSet<>();
+					Collections.addAll( sections, index.getProperty( key ).split( "," ) );
+					sectionsByClass.computeIfAbsent( key.substring( 0, separator ), k -> new HashMap<>() )
+							.put( key.substring( separator + 1 ), Collections.unmodifiableSet( sections ) );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to read " + INDEX_RESOURCE, e );
+		}
+		return new SpecSectionIndex( sectionsByClass );
+	}
+
+	/**
+	 * @return the identifiers of the sections covered by the given method of the given class, the class declaring the
+	 * method
+	 */
+	public Set<String> getSections(Class<?> declaringClass, String methodName) {
+		Map<String, Set<String>> sectionsByMethod = sectionsByClass.computeIfAbsent(
+				declaringClass.getName(),
+				className -> readSections( declaringClass.getClassLoader(), className )
+		);
+		Set<String> sections = sectionsByMethod.get( methodName );
+		return sections == null ? Collections.emptySet() : sections;
+	}
+
+	/**
+	 * @return {@code true} if the given section is one of the given sections or one of their subsections
+	 */
+	public static boolean isInSections(String section, Set<String> sections) {
+		for ( String parent : sections ) {
+			if ( section.equals( parent ) || section.startsWith( parent + "-" ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Map<String, Set<String>> readSections(ClassLoader classLoader, String className) {
+		if ( classLoader == null ) {
+			return Collections.emptyMap();
+		}
+		try ( InputStream classFile = classLoader.getResourceAsStream( className.replace( '.', '/' ) + ".class" ) ) {
+			if ( classFile == null ) {
+				return Collections.emptyMap();
+			}
+			return SpecAssertionReader.readSections( classFile );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to read the specification sections of " + className, e );
+		}
+	}
+
+	private static String getKey(String className, String methodName) {
+		return className + "#" + methodName;
+	}
+}
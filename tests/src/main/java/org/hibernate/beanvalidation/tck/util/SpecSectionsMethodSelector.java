@@ -0,0 +1,80 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which will, depending on the system property <i>sections</i>, only include the tests covering
+ * the given specification sections.
+ * <p>
+ * The property is a comma separated list of section identifiers, as defined by the {@code Sections} class. A test
+ * method is included if one of the sections it covers is one of the given sections or one of their subsections, so
+ * giving the identifier of a parent section, e.g. {@code validationapi-message}, includes all the tests of an area of
+ * the specification. The sections of the test methods are looked up in the {@link SpecSectionIndex}. All the tests
+ * are included if the property is not set.
+ */
+public class SpecSectionsMethodSelector implements IMethodSelector {
+
+	private static final Logger log = Logger.getLogger( SpecSectionsMethodSelector.class.getName() );
+
+	/**
+	 * Name of the system property for selecting the tests of given sections.
+	 */
+	private static final String SECTIONS = "sections";
+
+	private static final Set<String> sections;
+
+	static {
+		String envSetting = System.getProperty( SECTIONS );
+		if ( envSetting == null || envSetting.trim().isEmpty() ) {
+			sections = Collections.emptySet();
+		}
+		else {
+			Set<String> selectedSections = new TreeSet<>();
+			for ( String section : envSetting.split( "," ) ) {
+				if ( !section.trim().isEmpty() ) {
+					selectedSections.add( section.trim() );
+				}
+			}
+			sections = Collections.unmodifiableSet( selectedSections );
+			log.info( "Only including the tests of the sections " + sections + " and of their subsections" );
+		}
+	}
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( sections.isEmpty() || !isTestMethod ) {
+			return true;
+		}
+
+		Set<String> methodSections = SpecSectionIndex.getInstance().getSections(
+				method.getConstructorOrMethod().getDeclaringClass(),
+				method.getMethodName()
+		);
+		for ( String section : methodSections ) {
+			if ( SpecSectionIndex.isInSections( section, sections ) ) {
+				return true;
+			}
+		}
+
+		context.setStopped( true );
+		return false;
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+}
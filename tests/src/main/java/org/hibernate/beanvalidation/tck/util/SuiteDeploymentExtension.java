@@ -0,0 +1,155 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.SuiteDeployments;
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.spi.context.annotation.DeploymentScoped;
+import org.jboss.arquillian.container.spi.event.DeployDeployment;
+import org.jboss.arquillian.container.spi.event.UnDeployDeployment;
+import org.jboss.arquillian.container.spi.event.container.AfterUnDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeUnDeploy;
+import org.jboss.arquillian.container.spi.event.container.DeployerEvent;
+import org.jboss.arquillian.core.api.Event;
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.core.spi.LoadableExtension;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+
+/**
+ * Arquillian extension deploying the merged archives of the suite mode (see {@link SuiteDeployments}) once for all
+ * the test classes sharing them.
+ * <p>
+ * A merged archive stays deployed after its first test class, the following test classes of the same archive reusing
+ * the deployment. It is undeployed as soon as another archive gets deployed to the same container, so that a single
+ * deployment is active at a time, and at the end of the suite. The suite mode is thus most effective when the test
+ * classes sharing an archive are executed one after the other. In the parallel execution mode of the standalone
+ * container, each suite thread runs its own Arquillian lifecycle and thus deploys the merged archives of its own test
+ * classes.
+ */
+public class SuiteDeploymentExtension implements LoadableExtension {
+
+	@Override
+	public void register(ExtensionBuilder builder) {
+		builder.observer( SuiteDeployer.class );
+	}
+
+	public static class SuiteDeployer {
+
+		@Inject
+		@DeploymentScoped
+		private InstanceProducer<DeploymentDescription> deploymentDescription;
+
+		@Inject
+		@DeploymentScoped
+		private InstanceProducer<Deployment> deployment;
+
+		@Inject
+		@DeploymentScoped
+		private InstanceProducer<ProtocolMetaData> protocolMetaData;
+
+		@Inject
+		private Event<DeployerEvent> deployerEvent;
+
+		private DeployedSuiteArchive deployedSuiteArchive;
+
+		public void deploy(@Observes(precedence = -100) EventContext<DeployDeployment> context) {
+			DeployDeployment event = context.getEvent();
+
+			if ( deployedSuiteArchive != null ) {
+				if ( deployedSuiteArchive.isDeploymentOf( event.getContainer(), event.getDeployment() ) ) {
+					deploymentDescription.set( event.getDeployment().getDescription() );
+					deployment.set( event.getDeployment() );
+					protocolMetaData.set( deployedSuiteArchive.protocolMetaData );
+					event.getDeployment().deployed();
+					return;
+				}
+
+				undeploySuiteArchive();
+			}
+
+			context.proceed();
+
+			if ( SuiteDeployments.isSuiteArchive( getArchiveName( event.getDeployment() ) ) && event.getDeployment().isDeployed() ) {
+				deployedSuiteArchive = new DeployedSuiteArchive(
+						event.getContainer(),
+						event.getDeployableContainer(),
+						event.getDeployment().getDescription(),
+						protocolMetaData.get()
+				);
+			}
+		}
+
+		public void undeploy(@Observes(precedence = -100) EventContext<UnDeployDeployment> context) {
+			UnDeployDeployment event = context.getEvent();
+
+			if ( deployedSuiteArchive != null && deployedSuiteArchive.isDeploymentOf( event.getContainer(), event.getDeployment() ) ) {
+				// the archive is kept deployed for the next test class
+				event.getDeployment().undeployed();
+				return;
+			}
+
+			context.proceed();
+		}
+
+		public void undeploy(@Observes(precedence = 100) AfterSuite event) {
+			if ( deployedSuiteArchive != null ) {
+				undeploySuiteArchive();
+			}
+		}
+
+		private void undeploySuiteArchive() {
+			DeployedSuiteArchive suiteArchive = deployedSuiteArchive;
+			deployedSuiteArchive = null;
+
+			deployerEvent.fire( new BeforeUnDeploy( suiteArchive.deployableContainer, suiteArchive.description ) );
+			try {
+				suiteArchive.deployableContainer.undeploy( suiteArchive.description.getTestableArchive() != null
+						? suiteArchive.description.getTestableArchive()
+						: suiteArchive.description.getArchive() );
+			}
+			catch (Exception e) {
+				throw new RuntimeException( "Unable to undeploy " + suiteArchive.description.getArchive().getName(), e );
+			}
+			deployerEvent.fire( new AfterUnDeploy( suiteArchive.deployableContainer, suiteArchive.description ) );
+		}
+
+		private static String getArchiveName(Deployment deployment) {
+			return deployment.getDescription().isArchiveDeployment() ? deployment.getDescription().getArchive().getName() : null;
+		}
+	}
+
+	private static class DeployedSuiteArchive {
+
+		private final Container container;
+
+		private final DeployableContainer<?> deployableContainer;
+
+		private final DeploymentDescription description;
+
+		private final ProtocolMetaData protocolMetaData;
+
+		private DeployedSuiteArchive(Container container, DeployableContainer<?> deployableContainer,
+				DeploymentDescription description, ProtocolMetaData protocolMetaData) {
+			this.container = container;
+			this.deployableContainer = deployableContainer;
+			this.description = description;
+			this.protocolMetaData = protocolMetaData;
+		}
+
+		private boolean isDeploymentOf(Container container, Deployment deployment) {
+			String archiveName = SuiteDeployer.getArchiveName( deployment );
+			return this.container == container && archiveName != null && archiveName.equals( description.getArchive().getName() );
+		}
+	}
+}
@@ -16,6 +16,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.validation.Configuration;
 import jakarta.validation.ConstraintViolation;
@@ -43,11 +45,17 @@ public final class TestUtil {
 
 	private static ValidationProvider<?> validationProviderUnderTest;
 
+	/**
+	 * The validator factories bootstrapped for the provider under test, keyed by the context class loader of the
+	 * deployment they were created for.
+	 */
+	private static final ConcurrentMap<ClassLoader, ValidatorFactory> validatorFactoriesUnderTest = new ConcurrentHashMap<>();
+
 	private TestUtil() {
 	}
 
 	public static Validator getValidatorUnderTest() {
-		return getValidatorFactoryUnderTest().getValidator();
+		return HarnessHooks.decorate( getValidatorFactoryUnderTest().getValidator() );
 	}
 
 	public static ValidationProvider<?> getValidationProviderUnderTest() {
@@ -57,9 +65,50 @@ public final class TestUtil {
 		return validationProviderUnderTest;
 	}
 
+	/**
+	 * Returns the {@link ValidatorFactory} of the provider under test for the current deployment.
+	 * <p>
+	 * The factory is bootstrapped once per context class loader and shared by all the tests running against the same
+	 * deployment. It is closed by {@link #closeValidatorFactoryUnderTest()} when the deployment is undeployed, so it
+	 * must not be closed by the tests themselves.
+	 *
+	 * @return the shared validator factory of the current deployment
+	 *
+	 * @see #getNewValidatorFactoryUnderTest()
+	 */
 	public static ValidatorFactory getValidatorFactoryUnderTest() {
-		Configuration<?> config = getConfigurationUnderTest();
-		return config.buildValidatorFactory();
+		return validatorFactoriesUnderTest.computeIfAbsent(
+				getValidatorFactoryCacheKey(),
+				classLoader -> getNewValidatorFactoryUnderTest()
+		);
+	}
+
+	/**
+	 * Bootstraps a new {@link ValidatorFactory} of the provider under test, bypassing the per-deployment cache used by
+	 * {@link #getValidatorFactoryUnderTest()}. Tests which need a fresh factory on purpose should use this method and
+	 * close the returned factory themselves.
+	 *
+	 * @return a new validator factory
+	 */
+	public static ValidatorFactory getNewValidatorFactoryUnderTest() {
+		long start = HarnessHooks.start();
+		try {
+			Configuration<?> config = getConfigurationUnderTest();
+			return config.buildValidatorFactory();
+		}
+		finally {
+			HarnessHooks.stop( HarnessHook.Phase.PROVIDER_BOOTSTRAP, start );
+		}
+	}
+
+	/**
+	 * Evicts and closes the cached {@link ValidatorFactory} of the current deployment, if any.
+	 */
+	public static void closeValidatorFactoryUnderTest() {
+		ValidatorFactory validatorFactory = validatorFactoriesUnderTest.remove( getValidatorFactoryCacheKey() );
+		if ( validatorFactory != null ) {
+			validatorFactory.close();
+		}
 	}
 
 	public static Configuration<?> getConfigurationUnderTest() {
@@ -187,6 +236,11 @@ public final class TestUtil {
 				validationGroups );
 	}
 
+	private static ClassLoader getValidatorFactoryCacheKey() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return contextClassLoader != null ? contextClassLoader : TestUtil.class.getClassLoader();
+	}
+
 	private static <U extends ValidationProvider<?>> void instantiateValidationProviderUnderTest() {
 		String validatorProviderClassName = System.getProperty( VALIDATION_PROVIDER_TEST_CLASS );
 		if ( validatorProviderClassName == null ) {
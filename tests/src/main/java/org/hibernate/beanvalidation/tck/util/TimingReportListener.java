@@ -0,0 +1,209 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.HarnessHook.Phase;
+import org.hibernate.beanvalidation.tck.util.HarnessTimings.Timings;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener writing a CSV report of the time spent in each test class and test method, broken down into the
+ * harness overhead measured by {@link HarnessTimings}: archive building (including the collection of the merged
+ * archives in suite mode), deployment, undeployment and provider bootstrap.
+ * <p>
+ * The report is only written if the {@code timingReport} system property is set to the path of the report file. It
+ * contains a row per invocation of a test or configuration method (the deployment happening in a configuration
+ * method) followed by a row per test class aggregating the rows of the class. The rows of the test methods list the
+ * specification sections they cover, as given by the {@link SpecSectionIndex}.
+ */
+public class TimingReportListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( TimingReportListener.class.getName() );
+
+	private static final String KIND_TEST = "test";
+
+	private static final String KIND_CONFIGURATION = "configuration";
+
+	private static final String KIND_CLASS = "class";
+
+	private final ConcurrentLinkedQueue<Invocation> invocations = new ConcurrentLinkedQueue<>();
+
+	private final ThreadLocal<Invocation> currentInvocation = new ThreadLocal<>();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		if ( !HarnessTimings.isEnabled() ) {
+			return;
+		}
+
+		ITestNGMethod testMethod = method.getTestMethod();
+		Invocation invocation = new Invocation( testResult.getTestClass().getRealClass(), testMethod );
+		if ( testMethod.isTest() ) {
+			invocation.sections.addAll( SpecSectionIndex.getInstance().getSections(
+					testMethod.getConstructorOrMethod().getDeclaringClass(),
+					testMethod.getMethodName()
+			) );
+		}
+		currentInvocation.set( invocation );
+		HarnessTimings.begin( invocation.timings );
+		invocation.start = System.nanoTime();
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		Invocation invocation = currentInvocation.get();
+		if ( invocation == null ) {
+			return;
+		}
+
+		invocation.durationNanos = System.nanoTime() - invocation.start;
+		invocation.status = getStatus( testResult.getStatus() );
+		HarnessTimings.end();
+		currentInvocation.remove();
+		invocations.add( invocation );
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		if ( !HarnessTimings.isEnabled() ) {
+			return;
+		}
+
+		File report = new File( System.getProperty( HarnessTimings.TIMING_REPORT_PROPERTY ) );
+		try {
+			writeReport( report );
+			log.info( "Timing report written to " + report.getPath() );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Unable to write the timing report " + report.getPath(), e );
+		}
+	}
+
+	private synchronized void writeReport(File report) throws IOException {
+		if ( report.getAbsoluteFile().getParentFile() != null ) {
+			Files.createDirectories( report.getAbsoluteFile().getParentFile().toPath() );
+		}
+
+		Map<String, Invocation> classes = new TreeMap<>();
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( report.toPath(), StandardCharsets.UTF_8 ) ) ) {
+			writer.print( "kind,class,method,status,sections,duration_ms" );
+			for ( Phase phase : Phase.values() ) {
+				writer.print( "," + phase.name().toLowerCase( Locale.ROOT ) + "_ms" );
+				writer.print( "," + phase.name().toLowerCase( Locale.ROOT ) + "_count" );
+			}
+			writer.println();
+
+			for ( Invocation invocation : invocations ) {
+				write( writer, invocation );
+				classes.computeIfAbsent( invocation.className, Invocation::new ).add( invocation );
+			}
+			for ( Invocation classTotal : classes.values() ) {
+				write( writer, classTotal );
+			}
+		}
+	}
+
+	private static void write(PrintWriter writer, Invocation invocation) {
+		writer.print( invocation.kind );
+		writer.print( ',' );
+		writer.print( invocation.className );
+		writer.print( ',' );
+		writer.print( invocation.methodName );
+		writer.print( ',' );
+		writer.print( invocation.status );
+		writer.print( ',' );
+		writer.print( String.join( " ", invocation.sections ) );
+		writer.print( ',' );
+		writer.print( toMillis( invocation.durationNanos ) );
+		for ( Phase phase : Phase.values() ) {
+			writer.print( ',' );
+			writer.print( toMillis( invocation.timings.getNanos( phase ) ) );
+			writer.print( ',' );
+			writer.print( invocation.timings.getCount( phase ) );
+		}
+		writer.println();
+	}
+
+	private static String toMillis(long nanos) {
+		return String.format( Locale.ROOT, "%.3f", nanos / 1_000_000.0 );
+	}
+
+	private static String getStatus(int status) {
+		switch ( status ) {
+			case ITestResult.SUCCESS:
+				return "success";
+			case ITestResult.FAILURE:
+				return "failure";
+			case ITestResult.SKIP:
+				return "skip";
+			default:
+				return "unknown";
+		}
+	}
+
+	/**
+	 * The timings of a method invocation, or the aggregated timings of a test class.
+	 */
+	private static class Invocation {
+
+		private final String kind;
+
+		private final String className;
+
+		private final String methodName;
+
+		private final Set<String> sections = new TreeSet<>();
+
+		private final Timings timings = new Timings();
+
+		private long start;
+
+		private long durationNanos;
+
+		private String status = "";
+
+		private Invocation(Class<?> testClass, ITestNGMethod method) {
+			this.kind = method.isTest() ? KIND_TEST : KIND_CONFIGURATION;
+			this.className = testClass.getName();
+			this.methodName = method.getMethodName();
+		}
+
+		private Invocation(String className) {
+			this.kind = KIND_CLASS;
+			this.className = className;
+			this.methodName = "";
+		}
+
+		private void add(Invocation invocation) {
+			durationNanos += invocation.durationNanos;
+			sections.addAll( invocation.sections );
+			timings.add( invocation.timings );
+		}
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * Measure of the bytes allocated by the test methods and by the validation calls they make, for the allocation report
+ * written by {@link AllocationReportListener}.
+ * <p>
+ * The {@link Hook} is only enabled if the report is enabled via the {@code allocationReport} system property. When
+ * it is enabled, the validators returned by {@link TestUtil#getValidatorUnderTest()}, and thus by
+ * {@code AbstractTCKTest#getValidator()}, measure the bytes allocated by each of their validation calls, using the
+ * per thread allocation counters of {@link com.sun.management.ThreadMXBean}. The validation calls of a valid object,
+ * i.e. returning no violation, allocating more than the number of bytes given by the {@code allocationBudget}
+ * system property are flagged in the report and logged. The measures are attributed to the test method being invoked
+ * by the current thread, so the validation calls made in a remote container are not measured.
+ */
+public final class ValidationAllocations {
+
+	/**
+	 * Name of the system property giving the path of the allocation report.
+	 */
+	public static final String ALLOCATION_REPORT_PROPERTY = "allocationReport";
+
+	/**
+	 * Name of the system property giving the maximum number of bytes a validation call of a valid object may allocate.
+	 */
+	public static final String ALLOCATION_BUDGET_PROPERTY = "allocationBudget";
+
+	private static final Logger log = Logger.getLogger( ValidationAllocations.class.getName() );
+
+	private static final boolean enabled = System.getProperty( ALLOCATION_REPORT_PROPERTY ) != null;
+
+	private static final long budget = Long.getLong( ALLOCATION_BUDGET_PROPERTY, Long.MAX_VALUE );
+
+	private static final ThreadLocal<Allocations> currentAllocations = new ThreadLocal<>();
+
+	private static volatile com.sun.management.ThreadMXBean threadMXBean;
+
+	private ValidationAllocations() {
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	static long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @return the number of bytes allocated so far by the current thread
+	 */
+	static long getAllocatedBytes() {
+		com.sun.management.ThreadMXBean bean = threadMXBean;
+		if ( bean == null ) {
+			bean = initThreadMXBean();
+		}
+		return bean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	static void begin(Allocations allocations) {
+		currentAllocations.set( allocations );
+	}
+
+	static void end() {
+		currentAllocations.remove();
+	}
+
+	private static synchronized com.sun.management.ThreadMXBean initThreadMXBean() {
+		if ( threadMXBean == null ) {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if ( !( bean instanceof com.sun.management.ThreadMXBean )
+					|| !( (com.sun.management.ThreadMXBean) bean ).isThreadAllocatedMemorySupported() ) {
+				throw new IllegalStateException( "The allocation report requires a JVM measuring the memory allocated by each thread" );
+			}
+			( (com.sun.management.ThreadMXBean) bean ).setThreadAllocatedMemoryEnabled( true );
+			threadMXBean = (com.sun.management.ThreadMXBean) bean;
+		}
+		return threadMXBean;
+	}
+
+	private static <T> Set<ConstraintViolation<T>> measure(String call, Supplier<Set<ConstraintViolation<T>>> validation) {
+		Allocations allocations = currentAllocations.get();
+		if ( allocations == null ) {
+			return validation.get();
+		}
+
+		long start = getAllocatedBytes();
+		Set<ConstraintViolation<T>> violations = validation.get();
+		long allocatedBytes = getAllocatedBytes() - start;
+
+		if ( allocations.addValidationCall( allocatedBytes, violations.isEmpty() ) ) {
+			log.warning( allocations.getName() + ": " + call + " of a valid object allocated " + allocatedBytes + " bytes, more than the budget of " + budget + " bytes" );
+		}
+		return violations;
+	}
+
+	/**
+	 * Decorates the validators of the provider under test with validators measuring the allocations of their
+	 * validation calls.
+	 */
+	public static class Hook implements HarnessHook {
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public Validator decorate(Validator validator) {
+			return new MeasuringValidator( validator );
+		}
+	}
+
+	/**
+	 * The bytes allocated by test methods and by their validation calls.
+	 */
+	static class Allocations {
+
+		private final String name;
+
+		private long methodBytes;
+
+		private long validationCalls;
+
+		private long validationBytes;
+
+		private long validCalls;
+
+		private long validBytes;
+
+		private long maxValidCallBytes;
+
+		private long overBudgetCalls;
+
+		/**
+		 * @param name the name of the test method or test class the allocations are measured for
+		 */
+		Allocations(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * @return {@code true} if the call is a validation of a valid object exceeding the budget
+		 */
+		synchronized boolean addValidationCall(long allocatedBytes, boolean valid) {
+			validationCalls++;
+			validationBytes += allocatedBytes;
+			if ( !valid ) {
+				return false;
+			}
+
+			validCalls++;
+			validBytes += allocatedBytes;
+			maxValidCallBytes = Math.max( maxValidCallBytes, allocatedBytes );
+			if ( allocatedBytes > budget ) {
+				overBudgetCalls++;
+				return true;
+			}
+			return false;
+		}
+
+		synchronized void addMethodBytes(long allocatedBytes) {
+			methodBytes += allocatedBytes;
+		}
+
+		synchronized void add(Allocations allocations) {
+			methodBytes += allocations.methodBytes;
+			validationCalls += allocations.validationCalls;
+			validationBytes += allocations.validationBytes;
+			validCalls += allocations.validCalls;
+			validBytes += allocations.validBytes;
+			maxValidCallBytes = Math.max( maxValidCallBytes, allocations.maxValidCallBytes );
+			overBudgetCalls += allocations.overBudgetCalls;
+		}
+
+		synchronized long getMethodBytes() {
+			return methodBytes;
+		}
+
+		synchronized long getValidationCalls() {
+			return validationCalls;
+		}
+
+		synchronized long getValidationBytes() {
+			return validationBytes;
+		}
+
+		synchronized long getValidCalls() {
+			return validCalls;
+		}
+
+		synchronized long getValidBytes() {
+			return validBytes;
+		}
+
+		synchronized long getMaxValidCallBytes() {
+			return maxValidCallBytes;
+		}
+
+		synchronized long getOverBudgetCalls() {
+			return overBudgetCalls;
+		}
+	}
+
+	private static class MeasuringValidator implements Validator {
+
+		private final Validator delegate;
+
+		private MeasuringValidator(Validator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			return measure( "validate()", () -> delegate.validate( object, groups ) );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return measure( "validateProperty()", () -> delegate.validateProperty( object, propertyName, groups ) );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			return measure( "validateValue()", () -> delegate.validateValue( beanType, propertyName, value, groups ) );
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return delegate.getConstraintsForClass( clazz );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return delegate.unwrap( type );
+		}
+
+		@Override
+		public ExecutableValidator forExecutables() {
+			return new MeasuringExecutableValidator( delegate.forExecutables() );
+		}
+	}
+
+	private static class MeasuringExecutableValidator implements ExecutableValidator {
+
+		private final ExecutableValidator delegate;
+
+		private MeasuringExecutableValidator(ExecutableValidator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+			return measure( "validateParameters()", () -> delegate.validateParameters( object, method, parameterValues, groups ) );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+			return measure( "validateReturnValue()", () -> delegate.validateReturnValue( object, method, returnValue, groups ) );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues,
+				Class<?>... groups) {
+			return measure( "validateConstructorParameters()", () -> delegate.validateConstructorParameters( constructor, parameterValues, groups ) );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject,
+				Class<?>... groups) {
+			return measure( "validateConstructorReturnValue()", () -> delegate.validateConstructorReturnValue( constructor, createdObject, groups ) );
+		}
+	}
+}
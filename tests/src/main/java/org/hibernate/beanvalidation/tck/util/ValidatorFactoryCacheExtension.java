@@ -0,0 +1,33 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import org.jboss.arquillian.container.spi.event.container.BeforeUnDeploy;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.LoadableExtension;
+
+/**
+ * Arquillian extension closing the validator factory cached by {@link TestUtil#getValidatorFactoryUnderTest()} when
+ * the deployment it was bootstrapped for gets undeployed.
+ * <p>
+ * When the tests are executed in a remote container, the cache lives in the copy of {@code TestUtil} packaged in the
+ * deployment and is discarded together with it.
+ */
+public class ValidatorFactoryCacheExtension implements LoadableExtension {
+
+	@Override
+	public void register(ExtensionBuilder builder) {
+		builder.observer( ValidatorFactoryCacheEvictor.class );
+	}
+
+	public static class ValidatorFactoryCacheEvictor {
+
+		public void evict(@Observes BeforeUnDeploy event) {
+			TestUtil.closeValidatorFactoryUnderTest();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.ViolationFootprints.Footprint;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener writing a CSV report of the memory footprint of the constraint violations asserted by each test
+ * class, as recorded by {@link ViolationFootprints}.
+ * <p>
+ * The report is only written if the {@code violationFootprintReport} system property is set to the path of the report
+ * file. It contains a row per test class giving the number of asserted violation sets and violations, the estimated
+ * retained size of the violations and the sharing of the paths and nodes of the violations: the number of distinct
+ * path instances and the number of distinct node instances among the nodes of these paths.
+ */
+public class ViolationFootprintReportListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( ViolationFootprintReportListener.class.getName() );
+
+	private final ConcurrentMap<String, Footprint> footprints = new ConcurrentHashMap<>();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		if ( !ViolationFootprints.isEnabled() || !method.isTestMethod() ) {
+			return;
+		}
+
+		ViolationFootprints.begin(
+				footprints.computeIfAbsent( testResult.getTestClass().getRealClass().getName(), className -> new Footprint() )
+		);
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		ViolationFootprints.end();
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		if ( !ViolationFootprints.isEnabled() ) {
+			return;
+		}
+
+		File report = new File( System.getProperty( ViolationFootprints.FOOTPRINT_REPORT_PROPERTY ) );
+		try {
+			writeReport( report );
+			log.info( "Violation footprint report written to " + report.getPath() );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Unable to write the violation footprint report " + report.getPath(), e );
+		}
+	}
+
+	private synchronized void writeReport(File report) throws IOException {
+		if ( report.getAbsoluteFile().getParentFile() != null ) {
+			Files.createDirectories( report.getAbsoluteFile().getParentFile().toPath() );
+		}
+
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( report.toPath(), StandardCharsets.UTF_8 ) ) ) {
+			writer.println( "class,violation_sets,violations,retained_bytes,retained_bytes_per_violation,distinct_paths,nodes,distinct_nodes" );
+
+			for ( Map.Entry<String, Footprint> entry : new TreeMap<>( footprints ).entrySet() ) {
+				Footprint footprint = entry.getValue();
+				if ( footprint.getRecordedSets() == 0 ) {
+					continue;
+				}
+
+				writer.print( entry.getKey() );
+				writer.print( ',' );
+				writer.print( footprint.getRecordedSets() );
+				writer.print( ',' );
+				writer.print( footprint.getViolations() );
+				writer.print( ',' );
+				writer.print( footprint.getRetainedBytes() );
+				writer.print( ',' );
+				writer.print( footprint.getViolations() == 0 ? "" : String.format( Locale.ROOT, "%.1f", (double) footprint.getRetainedBytes() / footprint.getViolations() ) );
+				writer.print( ',' );
+				writer.print( footprint.getDistinctPaths() );
+				writer.print( ',' );
+				writer.print( footprint.getNodes() );
+				writer.print( ',' );
+				writer.print( footprint.getDistinctNodes() );
+				writer.println();
+			}
+		}
+	}
+}
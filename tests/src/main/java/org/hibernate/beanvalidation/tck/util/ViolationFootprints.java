@@ -0,0 +1,365 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+
+/**
+ * Recording of the memory footprint of the constraint violations asserted by {@link ConstraintViolationAssert}, for the
+ * footprint report written by {@link ViolationFootprintReportListener}.
+ * <p>
+ * The {@link Hook} recording the violations is only enabled if the report is enabled via the
+ * {@code violationFootprintReport} system property.
+ * The violations are attributed to the test method being invoked by the current thread, so the violations asserted in
+ * a remote container are not recorded.
+ * <p>
+ * The retained size of violations is an estimate of the size of the objects reachable from the violations, excluding
+ * the validated objects, the constraint descriptors and the JVM metadata (classes, reflection objects), assuming a 64
+ * bits JVM with compressed references. The validated objects include the intermediate beans of cascaded validations,
+ * which providers may reference from the nodes of the property paths: the values returned by a public
+ * {@code getValue()} method of the node implementations are excluded and the instances of the TCK classes are not
+ * followed. An object shared by several violations, e.g. a node shared by their paths, is
+ * only counted once. The objects of the JDK whose fields are not accessible are counted without the objects they
+ * reference.
+ */
+public final class ViolationFootprints {
+
+	/**
+	 * Name of the system property giving the path of the footprint report.
+	 */
+	public static final String FOOTPRINT_REPORT_PROPERTY = "violationFootprintReport";
+
+	private static final boolean enabled = System.getProperty( FOOTPRINT_REPORT_PROPERTY ) != null;
+
+	private static final ThreadLocal<Footprint> currentFootprint = new ThreadLocal<>();
+
+	private static final int OBJECT_HEADER_SIZE = 12;
+
+	private static final int ARRAY_HEADER_SIZE = 16;
+
+	private static final int REFERENCE_SIZE = 4;
+
+	private static final int ALIGNMENT = 8;
+
+	private static final String TCK_PACKAGE_PREFIX = "org.hibernate.beanvalidation.tck.";
+
+	private static final ClassValue<Optional<Method>> nodeValueMethods = new ClassValue<Optional<Method>>() {
+
+		@Override
+		protected Optional<Method> computeValue(Class<?> type) {
+			try {
+				Method method = type.getMethod( "getValue" );
+				method.setAccessible( true );
+				return Optional.of( method );
+			}
+			catch (NoSuchMethodException | RuntimeException e) {
+				return Optional.empty();
+			}
+		}
+	};
+
+	private static final ClassValue<ClassLayout> classLayouts = new ClassValue<ClassLayout>() {
+
+		@Override
+		protected ClassLayout computeValue(Class<?> type) {
+			return new ClassLayout( type );
+		}
+	};
+
+	private ViolationFootprints() {
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	static void begin(Footprint footprint) {
+		currentFootprint.set( footprint );
+	}
+
+	static void end() {
+		currentFootprint.remove();
+	}
+
+	/**
+	 * Records the footprint of the asserted violations for the current test method, unless they are the violations
+	 * recorded last.
+	 */
+	public static class Hook implements HarnessHook {
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public void violationsAsserted(Collection<? extends ConstraintViolation<?>> violations) {
+			if ( violations == null ) {
+				return;
+			}
+
+			Footprint footprint = currentFootprint.get();
+			if ( footprint != null ) {
+				footprint.add( violations );
+			}
+		}
+	}
+
+	/**
+	 * @return the estimated size of the objects reachable from the given violations, except the validated objects,
+	 * the constraint descriptors and the JVM metadata
+	 */
+	static long estimateRetainedSize(Collection<? extends ConstraintViolation<?>> violations) {
+		Set<Object> excluded = newIdentitySet();
+		for ( ConstraintViolation<?> violation : violations ) {
+			excluded.add( violation.getRootBean() );
+			excluded.add( violation.getLeafBean() );
+			excluded.add( violation.getInvalidValue() );
+			excluded.add( violation.getExecutableReturnValue() );
+			excluded.add( violation.getConstraintDescriptor() );
+			Object[] parameters = violation.getExecutableParameters();
+			if ( parameters != null ) {
+				excluded.add( parameters );
+				Collections.addAll( excluded, parameters );
+			}
+			if ( violation.getPropertyPath() != null ) {
+				for ( Path.Node node : violation.getPropertyPath() ) {
+					excluded.add( node.getKey() );
+					excluded.add( getNodeValue( node ) );
+				}
+			}
+		}
+
+		Set<Object> visited = newIdentitySet();
+		Deque<Object> toVisit = new ArrayDeque<>( violations );
+		long size = 0;
+		while ( !toVisit.isEmpty() ) {
+			Object object = toVisit.pop();
+			if ( excluded.contains( object ) || isJvmMetadata( object ) || isTckObject( object ) || !visited.add( object ) ) {
+				continue;
+			}
+
+			Class<?> type = object.getClass();
+			if ( type.isArray() ) {
+				size += getArraySize( object );
+				if ( !type.getComponentType().isPrimitive() ) {
+					for ( Object element : (Object[]) object ) {
+						if ( element != null ) {
+							toVisit.push( element );
+						}
+					}
+				}
+			}
+			else {
+				ClassLayout layout = classLayouts.get( type );
+				size += layout.size;
+				for ( Field field : layout.referenceFields ) {
+					Object value = getValue( field, object );
+					if ( value != null ) {
+						toVisit.push( value );
+					}
+				}
+			}
+		}
+
+		return size;
+	}
+
+	private static boolean isJvmMetadata(Object object) {
+		return object instanceof Class
+				|| object instanceof ClassLoader
+				|| object instanceof Enum
+				|| object instanceof Thread
+				|| object.getClass().getName().startsWith( "java.lang.reflect." );
+	}
+
+	/**
+	 * @return whether the given object is an instance of a TCK class, e.g. a validated bean, whose fields are not part
+	 * of the footprint of the provider
+	 */
+	private static boolean isTckObject(Object object) {
+		return object.getClass().getName().startsWith( TCK_PACKAGE_PREFIX );
+	}
+
+	/**
+	 * @return the value of the bean, property or container element represented by the given node if the node
+	 * implementation exposes it, {@code null} otherwise
+	 */
+	private static Object getNodeValue(Path.Node node) {
+		Optional<Method> valueMethod = nodeValueMethods.get( node.getClass() );
+		if ( !valueMethod.isPresent() ) {
+			return null;
+		}
+		try {
+			return valueMethod.get().invoke( node );
+		}
+		catch (IllegalAccessException | InvocationTargetException e) {
+			return null;
+		}
+	}
+
+	private static long getArraySize(Object array) {
+		int length = Array.getLength( array );
+		return align( ARRAY_HEADER_SIZE + (long) length * getSize( array.getClass().getComponentType() ) );
+	}
+
+	private static Object getValue(Field field, Object object) {
+		try {
+			return field.get( object );
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException( "Unable to read the field " + field, e );
+		}
+	}
+
+	private static int getSize(Class<?> type) {
+		if ( type == long.class || type == double.class ) {
+			return 8;
+		}
+		else if ( type == int.class || type == float.class ) {
+			return 4;
+		}
+		else if ( type == short.class || type == char.class ) {
+			return 2;
+		}
+		else if ( type == byte.class || type == boolean.class ) {
+			return 1;
+		}
+		return REFERENCE_SIZE;
+	}
+
+	private static long align(long size) {
+		return ( size + ALIGNMENT - 1 ) / ALIGNMENT * ALIGNMENT;
+	}
+
+	private static Set<Object> newIdentitySet() {
+		return Collections.newSetFromMap( new IdentityHashMap<>() );
+	}
+
+	/**
+	 * The estimated shallow size of the instances of a class and its accessible reference fields.
+	 */
+	private static class ClassLayout {
+
+		private final long size;
+
+		private final List<Field> referenceFields = new ArrayList<>();
+
+		private ClassLayout(Class<?> type) {
+			long fieldsSize = 0;
+			boolean accessible = true;
+			for ( Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass() ) {
+				for ( Field field : clazz.getDeclaredFields() ) {
+					if ( Modifier.isStatic( field.getModifiers() ) ) {
+						continue;
+					}
+					fieldsSize += getSize( field.getType() );
+					if ( accessible && !field.getType().isPrimitive() ) {
+						try {
+							field.setAccessible( true );
+							referenceFields.add( field );
+						}
+						catch (RuntimeException e) {
+							// fields of the JDK not opened to the TCK, the referenced objects are not counted
+							accessible = false;
+							referenceFields.clear();
+						}
+					}
+				}
+			}
+			this.size = align( OBJECT_HEADER_SIZE + fieldsSize );
+		}
+	}
+
+	/**
+	 * The footprint of the violations recorded for a test class.
+	 */
+	static class Footprint {
+
+		private int recordedSets;
+
+		private long violations;
+
+		private long retainedBytes;
+
+		private long distinctPaths;
+
+		private long nodes;
+
+		private long distinctNodes;
+
+		private WeakReference<Collection<?>> lastRecorded = new WeakReference<>( null );
+
+		synchronized void add(Collection<? extends ConstraintViolation<?>> violations) {
+			if ( lastRecorded.get() == violations ) {
+				return;
+			}
+			lastRecorded = new WeakReference<>( violations );
+
+			Set<Object> recordedPaths = newIdentitySet();
+			Set<Object> recordedNodes = newIdentitySet();
+			for ( ConstraintViolation<?> violation : violations ) {
+				Path path = violation.getPropertyPath();
+				if ( path == null ) {
+					continue;
+				}
+				recordedPaths.add( path );
+				for ( Path.Node node : path ) {
+					nodes++;
+					recordedNodes.add( node );
+				}
+			}
+
+			recordedSets++;
+			this.violations += violations.size();
+			retainedBytes += estimateRetainedSize( violations );
+			distinctPaths += recordedPaths.size();
+			distinctNodes += recordedNodes.size();
+		}
+
+		synchronized int getRecordedSets() {
+			return recordedSets;
+		}
+
+		synchronized long getViolations() {
+			return violations;
+		}
+
+		synchronized long getRetainedBytes() {
+			return retainedBytes;
+		}
+
+		synchronized long getDistinctPaths() {
+			return distinctPaths;
+		}
+
+		synchronized long getNodes() {
+			return nodes;
+		}
+
+		synchronized long getDistinctNodes() {
+			return distinctNodes;
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.sharding;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Partitions the test classes of the TCK into shards of balanced durations.
+ * <p>
+ * The durations are taken from a timing report written by a previous run, preferably a serial one (see
+ * {@link org.hibernate.beanvalidation.tck.util.TimingReportListener}):
+ * <ul>
+ * <li>The test classes reusing the deployment of the class executed before them, i.e. the classes deploying no
+ * archive in suite mode, form a deployment group with that class, whose duration includes the deployment of the
+ * shared archive. The classes of a group are assigned to the same shard, in the order of the report, so that the
+ * archive is deployed once per shard rather than once per class.</li>
+ * <li>The collection of the merged archives of the suite mode is repeated by each JVM: its average time per JVM is
+ * removed from the duration of the class it was attributed to and added to the duration of every shard.</li>
+ * </ul>
+ * The test classes missing from the report form a group each, with the average duration of the classes of the
+ * report. The partitioning is deterministic: the groups are assigned by decreasing duration, then by name of their
+ * first class, to the shard with the lowest total duration, then with the lowest index. Given the same test classes
+ * and the same timing report, each run and each CI job thus computes the same shards.
+ */
+final class ShardPartitioner {
+
+	private static final String KIND_CLASS = "class";
+
+	private ShardPartitioner() {
+	}
+
+	/**
+	 * @return the timings of the test classes of the given timing report
+	 */
+	static Timings readTimings(Path timingReport) throws IOException {
+		Set<String> executionOrder = new LinkedHashSet<>();
+		Map<String, Long> durations = new HashMap<>();
+		Map<String, Integer> deployments = new HashMap<>();
+		long suiteArchiveBuildDuration = 0;
+		int suiteArchiveBuilds = 0;
+
+		try ( BufferedReader reader = Files.newBufferedReader( timingReport, StandardCharsets.UTF_8 ) ) {
+			String header = reader.readLine();
+			if ( header == null ) {
+				return Timings.NONE;
+			}
+			List<String> columns = Arrays.asList( header.split( "," ) );
+			int kindColumn = getColumn( columns, "kind", timingReport );
+			int classColumn = getColumn( columns, "class", timingReport );
+			int durationColumn = getColumn( columns, "duration_ms", timingReport );
+			int deploymentCountColumn = getColumn( columns, "deployment_count", timingReport );
+			// missing from the reports written before the phase was measured
+			int suiteArchiveBuildColumn = columns.indexOf( "suite_archive_build_ms" );
+
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				String[] values = line.split( ",", -1 );
+				if ( values.length != columns.size() ) {
+					continue;
+				}
+				String className = values[classColumn];
+				if ( !KIND_CLASS.equals( values[kindColumn] ) ) {
+					executionOrder.add( className );
+					continue;
+				}
+
+				long duration = Math.round( Double.parseDouble( values[durationColumn] ) );
+				if ( suiteArchiveBuildColumn >= 0 ) {
+					long suiteArchiveBuild = Math.round( Double.parseDouble( values[suiteArchiveBuildColumn] ) );
+					if ( suiteArchiveBuild > 0 ) {
+						duration = Math.max( 0, duration - suiteArchiveBuild );
+						suiteArchiveBuildDuration += suiteArchiveBuild;
+						suiteArchiveBuilds++;
+					}
+				}
+				durations.merge( className, duration, Long::sum );
+				deployments.merge( className, Integer.parseInt( values[deploymentCountColumn] ), Integer::sum );
+			}
+		}
+
+		List<List<String>> deploymentGroups = new ArrayList<>();
+		List<String> currentGroup = null;
+		for ( String className : executionOrder ) {
+			if ( !durations.containsKey( className ) ) {
+				continue;
+			}
+			if ( currentGroup == null || deployments.get( className ) > 0 ) {
+				currentGroup = new ArrayList<>();
+				deploymentGroups.add( currentGroup );
+			}
+			currentGroup.add( className );
+		}
+
+		return new Timings(
+				durations,
+				deploymentGroups,
+				suiteArchiveBuilds == 0 ? 0 : suiteArchiveBuildDuration / suiteArchiveBuilds
+		);
+	}
+
+	/**
+	 * @return the given test classes partitioned into the given number of shards, using the given timings
+	 */
+	static List<Shard> partition(Collection<String> classNames, Timings timings, int shardCount) {
+		Map<String, Long> durations = timings.durations;
+		long knownDuration = 0;
+		int knownClasses = 0;
+		for ( String className : classNames ) {
+			Long duration = durations.get( className );
+			if ( duration != null ) {
+				knownDuration += duration;
+				knownClasses++;
+			}
+		}
+		long defaultDuration = knownClasses == 0 ? 1 : Math.max( 1, knownDuration / knownClasses );
+
+		List<Group> groups = new ArrayList<>();
+		Set<String> remainingClassNames = new HashSet<>( classNames );
+		for ( List<String> deploymentGroup : timings.deploymentGroups ) {
+			Group group = new Group( groups.size() );
+			for ( String className : deploymentGroup ) {
+				if ( remainingClassNames.remove( className ) ) {
+					group.add( className, durations.get( className ) );
+				}
+			}
+			if ( !group.classNames.isEmpty() ) {
+				groups.add( group );
+			}
+		}
+		List<String> unknownClassNames = new ArrayList<>( remainingClassNames );
+		Collections.sort( unknownClassNames );
+		for ( String className : unknownClassNames ) {
+			Group group = new Group( groups.size() );
+			group.add( className, defaultDuration );
+			groups.add( group );
+		}
+
+		List<Group> sortedGroups = new ArrayList<>( groups );
+		sortedGroups.sort( Comparator.comparingLong( Group::getDuration )
+				.reversed()
+				.thenComparing( group -> group.classNames.get( 0 ) ) );
+
+		List<Shard> shards = new ArrayList<>( shardCount );
+		PriorityQueue<Shard> lightestShards = new PriorityQueue<>(
+				Comparator.comparingLong( Shard::getDuration ).thenComparingInt( Shard::getIndex )
+		);
+		for ( int i = 0; i < shardCount; i++ ) {
+			Shard shard = new Shard( i, timings.shardSetupDuration );
+			shards.add( shard );
+			lightestShards.add( shard );
+		}
+
+		for ( Group group : sortedGroups ) {
+			Shard shard = lightestShards.poll();
+			shard.add( group );
+			lightestShards.add( shard );
+		}
+
+		for ( Shard shard : shards ) {
+			shard.groups.sort( Comparator.comparingInt( group -> group.order ) );
+		}
+		return shards;
+	}
+
+	private static int getColumn(List<String> columns, String column, Path timingReport) {
+		int index = columns.indexOf( column );
+		if ( index < 0 ) {
+			throw new IllegalArgumentException( timingReport + " is not a timing report, it has no " + column + " column" );
+		}
+		return index;
+	}
+
+	/**
+	 * The timings of the test classes read from a timing report.
+	 */
+	static class Timings {
+
+		static final Timings NONE = new Timings( Collections.emptyMap(), Collections.emptyList(), 0 );
+
+		private final Map<String, Long> durations;
+
+		private final List<List<String>> deploymentGroups;
+
+		private final long shardSetupDuration;
+
+		private Timings(Map<String, Long> durations, List<List<String>> deploymentGroups, long shardSetupDuration) {
+			this.durations = durations;
+			this.deploymentGroups = deploymentGroups;
+			this.shardSetupDuration = shardSetupDuration;
+		}
+
+		/**
+		 * @return the duration in milliseconds of the work repeated by each JVM
+		 */
+		long getShardSetupDuration() {
+			return shardSetupDuration;
+		}
+	}
+
+	/**
+	 * Test classes sharing a deployment, in execution order, or a single test class.
+	 */
+	private static class Group {
+
+		private final int order;
+
+		private final List<String> classNames = new ArrayList<>();
+
+		private long duration;
+
+		private Group(int order) {
+			this.order = order;
+		}
+
+		private void add(String className, long classDuration) {
+			classNames.add( className );
+			duration += classDuration;
+		}
+
+		private long getDuration() {
+			return duration;
+		}
+	}
+
+	/**
+	 * A shard, i.e. the test classes executed by one JVM.
+	 */
+	static class Shard {
+
+		private final int index;
+
+		private final List<Group> groups = new ArrayList<>();
+
+		private long duration;
+
+		private Shard(int index, long setupDuration) {
+			this.index = index;
+			this.duration = setupDuration;
+		}
+
+		private void add(Group group) {
+			groups.add( group );
+			duration += group.duration;
+		}
+
+		int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return the names of the test classes of the shard, the classes sharing a deployment being listed one after
+		 * the other in the order of the timing report, followed by the classes missing from the report sorted by name
+		 */
+		List<String> getClassNames() {
+			List<String> classNames = new ArrayList<>();
+			for ( Group group : groups ) {
+				classNames.addAll( group.classNames );
+			}
+			return classNames;
+		}
+
+		/**
+		 * @return the expected duration of the shard in milliseconds
+		 */
+		long getDuration() {
+			return duration;
+		}
+	}
+}
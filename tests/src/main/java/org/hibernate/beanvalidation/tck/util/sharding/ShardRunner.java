@@ -0,0 +1,424 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.HarnessTimings;
+import org.hibernate.beanvalidation.tck.util.ValidationAllocations;
+import org.hibernate.beanvalidation.tck.util.ViolationFootprints;
+import org.hibernate.beanvalidation.tck.util.sharding.ShardPartitioner.Shard;
+import org.hibernate.beanvalidation.tck.util.sharding.ShardPartitioner.Timings;
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.URLPackageScanner;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * Runs the TCK in several JVMs, each JVM executing a shard of the test classes.
+ * <p>
+ * The test classes of the {@code org.hibernate.beanvalidation.tck.tests} package are partitioned into shards of
+ * balanced durations by {@link ShardPartitioner}, using the timing report of a previous run if one is given. For each
+ * shard, a TestNG suite is derived from {@code tck-tests.xml}, keeping its listeners and method selectors but listing
+ * the test classes of the shard instead of the test packages (the {@code <test>}s listing their test classes keep those
+ * of the shard), and TestNG is executed in a forked JVM with the classpath and the system properties ({@code -D}) and
+ * the non-standard options ({@code -X}) of the JVM running this class; the other options, e.g. the agents of a
+ * debugger or a profiler, are not forwarded. Each forked JVM thus starts its own container, the {@code shardIndex} system property giving the index of its
+ * shard, e.g. to configure a distinct port per shard in {@code arquillian.xml}. The TestNG output of the shard
+ * {@code i} is written to the {@code shard-i} directory of the output directory, along with the log of the JVM.
+ * <p>
+ * Once all the shards are executed, their {@code testng-results.xml} files are merged into the
+ * {@code testng-results.xml} file of the output directory (see {@link TestNGResultsMerger}) and the CSV reports
+ * enabled for the run (timing, violation footprint and allocation reports) are merged into the paths given to this
+ * class. The exit code is the highest exit code of the shards.
+ * <p>
+ * The shards may also be executed by separate jobs, as the partitioning is deterministic: each job executes some of
+ * the shards with the {@code --only} option, then a final job merges the results collected in the output directory
+ * with the {@code --merge} option.
+ */
+public final class ShardRunner {
+
+	private static final Logger log = Logger.getLogger( ShardRunner.class.getName() );
+
+	/**
+	 * Name of the system property giving the index of the shard to the forked JVMs.
+	 */
+	public static final String SHARD_INDEX_PROPERTY = "shardIndex";
+
+	private static final String TESTS_PACKAGE = "org.hibernate.beanvalidation.tck.tests";
+
+	private static final String DEFAULT_SUITE = "tck-tests.xml";
+
+	private static final String RESULTS_FILE_NAME = "testng-results.xml";
+
+	private static final List<String> REPORT_PROPERTIES = Collections.unmodifiableList( Arrays.asList(
+			HarnessTimings.TIMING_REPORT_PROPERTY,
+			ViolationFootprints.FOOTPRINT_REPORT_PROPERTY,
+			ValidationAllocations.ALLOCATION_REPORT_PROPERTY
+	) );
+
+	private static final String USAGE = "Usage: ShardRunner --shards <count> [--output <directory>] [--timings <timing report>]"
+			+ " [--suite <suite file>] [--only <index>[,<index>...] | --merge]";
+
+	private final int shardCount;
+
+	private final File outputDirectory;
+
+	private final File timingReport;
+
+	private final File suiteFile;
+
+	private final List<Integer> selectedShards;
+
+	private final boolean mergeOnly;
+
+	private ShardRunner(int shardCount, File outputDirectory, File timingReport, File suiteFile, List<Integer> selectedShards,
+			boolean mergeOnly) {
+		this.shardCount = shardCount;
+		this.outputDirectory = outputDirectory;
+		this.timingReport = timingReport;
+		this.suiteFile = suiteFile;
+		this.selectedShards = selectedShards;
+		this.mergeOnly = mergeOnly;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int shardCount = 0;
+		File outputDirectory = new File( "target", "shards" );
+		File timingReport = null;
+		File suiteFile = null;
+		List<Integer> selectedShards = null;
+		boolean mergeOnly = false;
+
+		for ( int i = 0; i < args.length; i++ ) {
+			String arg = args[i];
+			if ( "--merge".equals( arg ) ) {
+				mergeOnly = true;
+				continue;
+			}
+			if ( i + 1 == args.length ) {
+				exit( "Missing value of " + arg );
+			}
+			String value = args[++i];
+			switch ( arg ) {
+				case "--shards":
+					shardCount = Integer.parseInt( value );
+					break;
+				case "--output":
+					outputDirectory = new File( value );
+					break;
+				case "--timings":
+					timingReport = new File( value );
+					break;
+				case "--suite":
+					suiteFile = new File( value );
+					break;
+				case "--only":
+					selectedShards = new ArrayList<>();
+					for ( String index : value.split( "," ) ) {
+						selectedShards.add( Integer.parseInt( index.trim() ) );
+					}
+					break;
+				default:
+					exit( "Unknown option " + arg );
+			}
+		}
+		if ( shardCount < 1 ) {
+			exit( "The number of shards must be given and positive" );
+		}
+		if ( selectedShards != null && mergeOnly ) {
+			exit( "--only and --merge are exclusive" );
+		}
+		if ( selectedShards != null ) {
+			for ( int index : selectedShards ) {
+				if ( index < 0 || index >= shardCount ) {
+					exit( "The shard indexes must be between 0 and " + ( shardCount - 1 ) );
+				}
+			}
+		}
+
+		int exitCode = new ShardRunner( shardCount, outputDirectory, timingReport, suiteFile, selectedShards, mergeOnly ).run();
+		System.exit( exitCode );
+	}
+
+	private int run() throws Exception {
+		int exitCode = 0;
+		if ( !mergeOnly ) {
+			exitCode = runShards();
+		}
+		if ( selectedShards == null ) {
+			mergeResults();
+		}
+		return exitCode;
+	}
+
+	private int runShards() throws Exception {
+		List<String> testClasses = getTestClasses();
+		Timings timings = timingReport == null
+				? Timings.NONE
+				: ShardPartitioner.readTimings( timingReport.toPath() );
+		List<Shard> shards = ShardPartitioner.partition( testClasses, timings, shardCount );
+
+		log.info( "Partitioned " + testClasses.size() + " test classes into " + shardCount + " shards"
+				+ ( timingReport == null ? "" : " using the timings of " + timingReport.getPath() + ", expected setup duration per shard "
+						+ TimeUnit.MILLISECONDS.toSeconds( timings.getShardSetupDuration() ) + " s" ) );
+
+		List<ShardProcess> processes = new ArrayList<>();
+		for ( Shard shard : shards ) {
+			if ( selectedShards == null || selectedShards.contains( shard.getIndex() ) ) {
+				processes.add( startShard( shard ) );
+			}
+		}
+
+		int exitCode = 0;
+		for ( ShardProcess process : processes ) {
+			int shardExitCode = process.process.waitFor();
+			long duration = TimeUnit.NANOSECONDS.toSeconds( System.nanoTime() - process.start );
+			log.info( "Shard " + process.shard.getIndex() + " exited with code " + shardExitCode + " after " + duration + " s, see "
+					+ new File( process.directory, "output.log" ).getPath() );
+			exitCode = Math.max( exitCode, shardExitCode );
+		}
+		return exitCode;
+	}
+
+	/**
+	 * @return the names of the top level, concrete classes of the tests package declaring TestNG tests, sorted by name
+	 */
+	private static List<String> getTestClasses() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		List<String> classNames = new ArrayList<>();
+		URLPackageScanner.newInstance( true, classLoader, classNames::add, TESTS_PACKAGE ).scanPackage();
+
+		TreeSet<String> testClasses = new TreeSet<>();
+		for ( String className : classNames ) {
+			if ( className.indexOf( '$' ) >= 0 ) {
+				continue;
+			}
+			try {
+				if ( isTestClass( Class.forName( className, false, classLoader ) ) ) {
+					testClasses.add( className );
+				}
+			}
+			catch (ClassNotFoundException | LinkageError e) {
+				// the class cannot be loaded in this environment (e.g. a JavaFX test), TestNG would not run it either
+				log.fine( "Ignoring " + className + ": " + e );
+			}
+		}
+		return new ArrayList<>( testClasses );
+	}
+
+	private static boolean isTestClass(Class<?> clazz) {
+		if ( clazz.isInterface() || Modifier.isAbstract( clazz.getModifiers() ) || !Modifier.isPublic( clazz.getModifiers() ) ) {
+			return false;
+		}
+		if ( clazz.isAnnotationPresent( Test.class ) ) {
+			return true;
+		}
+		for ( Method method : clazz.getMethods() ) {
+			if ( method.isAnnotationPresent( Test.class ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ShardProcess startShard(Shard shard) throws IOException {
+		File directory = getShardDirectory( shard.getIndex() );
+		Files.createDirectories( directory.toPath() );
+
+		List<String> classNames = shard.getClassNames();
+		Set<String> classNameSet = new HashSet<>( classNames );
+		File shardSuite = new File( directory, DEFAULT_SUITE );
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( shardSuite.toPath(), StandardCharsets.UTF_8 ) ) ) {
+			for ( XmlSuite suite : parseSuite() ) {
+				for ( Iterator<XmlTest> tests = suite.getTests().iterator(); tests.hasNext(); ) {
+					XmlTest test = tests.next();
+					if ( test.getXmlPackages().isEmpty() ) {
+						// a <test> listing its test classes only keeps those of the shard
+						test.getXmlClasses().removeIf( xmlClass -> !classNameSet.contains( xmlClass.getName() ) );
+						if ( test.getXmlClasses().isEmpty() ) {
+							tests.remove();
+						}
+						continue;
+					}
+
+					List<XmlClass> classes = new ArrayList<>();
+					for ( String className : classNames ) {
+						classes.add( new XmlClass( className, false ) );
+					}
+					test.setXmlPackages( new ArrayList<>() );
+					test.setXmlClasses( classes );
+				}
+				writer.print( suite.toXml() );
+			}
+		}
+
+		List<String> command = new ArrayList<>();
+		command.add( Paths.get( System.getProperty( "java.home" ), "bin", "java" ).toString() );
+		command.add( "-cp" );
+		command.add( System.getProperty( "java.class.path" ) );
+		for ( String argument : ManagementFactory.getRuntimeMXBean().getInputArguments() ) {
+			if ( isForwarded( argument ) ) {
+				command.add( argument );
+			}
+		}
+		for ( String reportProperty : REPORT_PROPERTIES ) {
+			if ( System.getProperty( reportProperty ) != null ) {
+				command.add( "-D" + reportProperty + "=" + getShardReport( directory, reportProperty ).getPath() );
+			}
+		}
+		command.add( "-D" + SHARD_INDEX_PROPERTY + "=" + shard.getIndex() );
+		command.add( "org.testng.TestNG" );
+		command.add( "-d" );
+		command.add( directory.getPath() );
+		command.add( shardSuite.getPath() );
+
+		log.info( "Starting shard " + shard.getIndex() + ": " + classNames.size() + " test classes, expected duration "
+				+ TimeUnit.MILLISECONDS.toSeconds( shard.getDuration() ) + " s" );
+
+		Process process = new ProcessBuilder( command )
+				.redirectErrorStream( true )
+				.redirectOutput( new File( directory, "output.log" ) )
+				.start();
+		return new ShardProcess( shard, directory, process );
+	}
+
+	private List<XmlSuite> parseSuite() throws IOException {
+		try ( InputStream in = suiteFile == null
+				? Thread.currentThread().getContextClassLoader().getResourceAsStream( DEFAULT_SUITE )
+				: Files.newInputStream( suiteFile.toPath() ) ) {
+			if ( in == null ) {
+				throw new IllegalStateException( DEFAULT_SUITE + " not found on the classpath" );
+			}
+			Parser parser = new Parser( in );
+			parser.setLoadClasses( false );
+			return parser.parseToList();
+		}
+	}
+
+	private void mergeResults() throws IOException {
+		List<File> results = new ArrayList<>();
+		for ( int i = 0; i < shardCount; i++ ) {
+			File result = new File( getShardDirectory( i ), RESULTS_FILE_NAME );
+			if ( !result.exists() ) {
+				throw new IllegalStateException( "Missing results of shard " + i + ": " + result.getPath() );
+			}
+			results.add( result );
+		}
+		File mergedResults = new File( outputDirectory, RESULTS_FILE_NAME );
+		TestNGResultsMerger.merge( results, mergedResults );
+		log.info( "Results of the " + shardCount + " shards merged into " + mergedResults.getPath() );
+
+		for ( String reportProperty : REPORT_PROPERTIES ) {
+			String report = System.getProperty( reportProperty );
+			if ( report != null ) {
+				mergeReports( reportProperty, new File( report ) );
+			}
+		}
+	}
+
+	/**
+	 * Concatenates the CSV reports of the shards, keeping the header of the first one.
+	 */
+	private void mergeReports(String reportProperty, File mergedReport) throws IOException {
+		if ( mergedReport.getAbsoluteFile().getParentFile() != null ) {
+			Files.createDirectories( mergedReport.getAbsoluteFile().getParentFile().toPath() );
+		}
+
+		try ( PrintWriter writer = new PrintWriter( Files.newBufferedWriter( mergedReport.toPath(), StandardCharsets.UTF_8 ) ) ) {
+			boolean headerWritten = false;
+			for ( int i = 0; i < shardCount; i++ ) {
+				File report = getShardReport( getShardDirectory( i ), reportProperty );
+				if ( !report.exists() ) {
+					log.warning( "Missing " + reportProperty + " of shard " + i + ": " + report.getPath() );
+					continue;
+				}
+				List<String> lines = Files.readAllLines( report.toPath(), StandardCharsets.UTF_8 );
+				for ( int j = headerWritten ? 1 : 0; j < lines.size(); j++ ) {
+					writer.println( lines.get( j ) );
+				}
+				headerWritten = true;
+			}
+		}
+		log.info( "Reports " + reportProperty + " of the shards merged into " + mergedReport.getPath() );
+	}
+
+	private File getShardDirectory(int index) {
+		return new File( outputDirectory, "shard-" + index );
+	}
+
+	private static File getShardReport(File shardDirectory, String reportProperty) {
+		return new File( shardDirectory, reportProperty + ".csv" );
+	}
+
+	/**
+	 * @return {@code true} if the given argument of this JVM is given to the forked JVMs: the system properties, except
+	 * the paths of the reports, and the non-standard options, except those loading a debugger
+	 */
+	private static boolean isForwarded(String jvmArgument) {
+		if ( jvmArgument.startsWith( "-D" ) ) {
+			return !isReportProperty( jvmArgument );
+		}
+		return jvmArgument.startsWith( "-X" ) && !jvmArgument.equals( "-Xdebug" ) && !jvmArgument.startsWith( "-Xrunjdwp" );
+	}
+
+	private static boolean isReportProperty(String jvmArgument) {
+		for ( String reportProperty : REPORT_PROPERTIES ) {
+			if ( jvmArgument.startsWith( "-D" + reportProperty + "=" ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void exit(String message) {
+		System.err.println( message );
+		System.err.println( USAGE );
+		System.exit( 2 );
+	}
+
+	/**
+	 * A shard executed in a forked JVM.
+	 */
+	private static class ShardProcess {
+
+		private final Shard shard;
+
+		private final File directory;
+
+		private final Process process;
+
+		private final long start = System.nanoTime();
+
+		private ShardProcess(Shard shard, File directory, Process process) {
+			this.shard = shard;
+			this.directory = directory;
+			this.process = process;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * Merges the {@code testng-results.xml} files written by the shards into a single {@code testng-results.xml} file.
+ * <p>
+ * The counters of the root element ({@code total}, {@code passed}, {@code failed}, {@code skipped},
+ * {@code ignored}) are summed, the reporter output of the shards is concatenated and their {@code suite} elements are
+ * appended one after the other, so the merged file reads as the results of a single run for the tools consuming the
+ * TestNG results.
+ */
+final class TestNGResultsMerger {
+
+	private static final String REPORTER_OUTPUT = "reporter-output";
+
+	private TestNGResultsMerger() {
+	}
+
+	static void merge(List<File> results, File mergedResults) throws IOException {
+		try {
+			DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+			Document merged = builder.newDocument();
+			Element mergedRoot = null;
+			Element mergedReporterOutput = null;
+
+			for ( File result : results ) {
+				Element root = builder.parse( result ).getDocumentElement();
+				if ( mergedRoot == null ) {
+					mergedRoot = (Element) merged.importNode( root, false );
+					merged.appendChild( mergedRoot );
+					mergedReporterOutput = merged.createElement( REPORTER_OUTPUT );
+					mergedRoot.appendChild( mergedReporterOutput );
+				}
+				else {
+					sumCounters( mergedRoot, root );
+				}
+
+				for ( Node child = root.getFirstChild(); child != null; child = child.getNextSibling() ) {
+					if ( child.getNodeType() != Node.ELEMENT_NODE ) {
+						continue;
+					}
+					if ( REPORTER_OUTPUT.equals( child.getNodeName() ) ) {
+						for ( Node output = child.getFirstChild(); output != null; output = output.getNextSibling() ) {
+							mergedReporterOutput.appendChild( merged.importNode( output, true ) );
+						}
+					}
+					else {
+						mergedRoot.appendChild( merged.importNode( child, true ) );
+					}
+				}
+			}
+
+			if ( mergedRoot == null ) {
+				throw new IllegalArgumentException( "No TestNG results to merge" );
+			}
+
+			Files.createDirectories( mergedResults.getAbsoluteFile().getParentFile().toPath() );
+			Transformer transformer = TransformerFactory.newInstance().newTransformer();
+			transformer.setOutputProperty( OutputKeys.INDENT, "yes" );
+			transformer.transform( new DOMSource( merged ), new StreamResult( mergedResults ) );
+		}
+		catch (ParserConfigurationException | SAXException | TransformerException e) {
+			throw new IOException( "Unable to merge the TestNG results into " + mergedResults.getPath(), e );
+		}
+	}
+
+	private static void sumCounters(Element mergedRoot, Element root) {
+		NamedNodeMap attributes = root.getAttributes();
+		for ( int i = 0; i < attributes.getLength(); i++ ) {
+			Attr attribute = (Attr) attributes.item( i );
+			String mergedValue = mergedRoot.getAttribute( attribute.getName() );
+			try {
+				long sum = Long.parseLong( mergedValue ) + Long.parseLong( attribute.getValue() );
+				mergedRoot.setAttribute( attribute.getName(), String.valueOf( sum ) );
+			}
+			catch (NumberFormatException e) {
+				// not a counter, the value of the first shard is kept
+			}
+		}
+	}
+}
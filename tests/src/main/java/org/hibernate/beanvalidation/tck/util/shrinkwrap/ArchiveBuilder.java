@@ -8,13 +8,24 @@ package org.hibernate.beanvalidation.tck.util.shrinkwrap;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
+import org.hibernate.beanvalidation.tck.util.HarnessHook;
+import org.hibernate.beanvalidation.tck.util.HarnessHooks;
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.ArchivePaths;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.Asset;
-import org.jboss.shrinkwrap.api.container.ClassContainer;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
 import org.jboss.shrinkwrap.api.container.LibraryContainer;
 import org.jboss.shrinkwrap.api.container.ResourceContainer;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
 
 /**
  * Abstract ShrinkWrap archive builder for Jakarta Bean Validation TCK Arquillian test.
@@ -31,6 +42,12 @@ import org.jboss.shrinkwrap.api.container.ResourceContainer;
  */
 public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends Archive<A>> {
 
+	private static final String VALIDATION_XML = "validation.xml";
+	private static final String BEANS_XML = "beans.xml";
+	private static final String SERVICES_PATH = "META-INF/services/";
+
+	private static volatile List<ArchiveHook> hooks;
+
 	private String name;
 	private Class<?> testClazz = null;
 	protected List<ResourceDescriptor> resources = null;
@@ -154,6 +171,10 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 	public abstract T self();
 
 	/**
+	 * Builds the archive, each call returning a new archive. The {@link ArchiveHook}s may reuse the archives built from
+	 * the same inputs (see {@link ArchiveCache}) or replace the archive of a test class which can share its deployment
+	 * with other test classes by the archive merging all of them (see {@link SuiteDeployments}).
+	 *
 	 * @return shrinkwrap archive
 	 */
 	public A build() {
@@ -161,7 +182,37 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 			throw new IllegalStateException( "Test class must be set!" );
 		}
 
-		return buildInternal();
+		long start = HarnessHooks.start();
+		try {
+			return buildCopy();
+		}
+		finally {
+			HarnessHooks.stop( HarnessHook.Phase.ARCHIVE_BUILD, start );
+		}
+	}
+
+	private A buildCopy() {
+		ClassLoader classLoader = getClassLoader();
+		List<Object> inputs = getInputs();
+		Supplier<A> builder = this::buildInternal;
+		for ( ArchiveHook hook : getHooks() ) {
+			Supplier<A> next = builder;
+			builder = () -> hook.getArchive( classLoader, inputs, next );
+		}
+		A archive = builder.get();
+
+		if ( isMergeable() ) {
+			List<Object> resourceInputs = getResourceInputs();
+			A suiteArchive = archive;
+			for ( ArchiveHook hook : getHooks() ) {
+				suiteArchive = hook.getSuiteArchive( resourceInputs, testClazz, suiteArchive, this::createArchive );
+			}
+			if ( suiteArchive != archive ) {
+				return copy( suiteArchive, suiteArchive.getName() );
+			}
+		}
+
+		return copy( archive, getName() );
 	}
 
 	/**
@@ -169,49 +220,210 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 	 */
 	protected abstract A buildInternal();
 
-	protected void processPackages(final ClassContainer<?> archive) {
+	/**
+	 * @param name the name of the archive, a generated name is used if {@code null}
+	 *
+	 * @return a new empty archive
+	 */
+	protected abstract A createArchive(String name);
 
-		if ( packages == null ) {
-			return;
-		}
+	/**
+	 * @param archive the archive to copy
+	 * @param name the name of the copy
+	 *
+	 * @return a new archive with the content of the given archive
+	 */
+	private A copy(A archive, String name) {
+		return createArchive( name ).merge( archive );
+	}
 
-		for ( String pack : packages ) {
+	/**
+	 * @return everything the built archive depends on, except its name and the class loader: the inputs are copies
+	 * not referencing the builder state or any class, as they may be kept as keys by the hooks (see {@link ArchiveCache})
+	 */
+	protected List<Object> getInputs() {
+		List<Object> inputs = getResourceInputs();
+		inputs.add( testClazz.getName() );
+		inputs.add( copy( packages ) );
+		inputs.add( copy( classes ) );
+		return inputs;
+	}
 
-			final URLPackageScanner.Callback callback = new URLPackageScanner.Callback() {
-				@Override
-				public void classFound(String className) {
-					archive.addClass( className );
+	/**
+	 * @return everything the built archive depends on, except its name and its classes: archives with the same
+	 * resource inputs may be merged in suite mode
+	 */
+	protected List<Object> getResourceInputs() {
+		List<Object> inputs = new ArrayList<>();
+		inputs.add( getClass().getName() );
+		inputs.add( getInputs( resources ) );
+		inputs.add( copy( additionalJars ) );
+
+		if ( serviceProviders != null ) {
+			for ( ServiceProviderDescriptor serviceProvider : serviceProviders ) {
+				inputs.add( serviceProvider.getServiceInterface().getName() );
+				List<String> implementationNames = new ArrayList<>();
+				for ( Class<?> implementation : serviceProvider.getServiceImplementations() ) {
+					implementationNames.add( implementation.getName() );
 				}
-			};
+				inputs.add( implementationNames );
+			}
+		}
+
+		return inputs;
+	}
+
+	/**
+	 * @return {@code true} if the built archive does not contain any configuration (validation.xml, service
+	 * providers, beans.xml) and may thus be merged with other archives in suite mode
+	 */
+	protected boolean isMergeable() {
+		if ( serviceProviders != null ) {
+			return false;
+		}
+
+		return isMergeable( resources );
+	}
 
-			ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+	protected boolean isMergeable(List<ResourceDescriptor> resources) {
+		if ( resources == null ) {
+			return true;
+		}
 
-			if ( classLoader == null ) {
-				classLoader = getClass().getClassLoader();
+		for ( ResourceDescriptor resource : resources ) {
+			String path = resource.getTarget() != null ? resource.getTarget() : resource.getSource();
+			if ( path == null ) {
+				continue;
+			}
+			if ( path.endsWith( VALIDATION_XML ) || path.endsWith( BEANS_XML ) || path.contains( SERVICES_PATH ) ) {
+				return false;
 			}
+		}
 
-			final URLPackageScanner scanner = URLPackageScanner.newInstance(
-					false,
-					classLoader,
-					callback,
-					pack
-			);
-			scanner.scanPackage();
+		return true;
+	}
+
+	protected List<Object> getInputs(List<ResourceDescriptor> resources) {
+		if ( resources == null ) {
+			return null;
 		}
+
+		List<Object> inputs = new ArrayList<>();
+		for ( ResourceDescriptor resource : resources ) {
+			Object asset = resource.getAsset() != null ? getContentKey( resource.getAsset() ) : null;
+			inputs.add( Arrays.asList( asset, resource.getSource(), resource.getTarget() ) );
+		}
+		return inputs;
+	}
+
+	/**
+	 * @return a key comparing the given asset by content, an asset usually not implementing {@code equals()}
+	 */
+	private static Object getContentKey(Asset asset) {
+		return ByteBuffer.wrap( new ByteArrayAsset( asset.openStream() ).getSource() ).asReadOnlyBuffer();
+	}
+
+	private static <E> List<E> copy(List<E> list) {
+		return list != null ? Collections.unmodifiableList( new ArrayList<>( list ) ) : null;
+	}
+
+	/**
+	 * @return the path of the classes in the archive
+	 */
+	protected ArchivePath getClassesPath() {
+		return ArchivePaths.root();
 	}
 
-	protected void processClasses(ClassContainer<?> archive) {
+	protected void processPackages(Archive<?> archive) {
+
+		if ( packages == null ) {
+			return;
+		}
+
+		ClassLoader classLoader = getClassLoader();
+
+		for ( String pack : packages ) {
+			Supplier<List<String>> scanner = () -> scanPackage( classLoader, pack );
+			for ( ArchiveHook hook : getHooks() ) {
+				Supplier<List<String>> next = scanner;
+				scanner = () -> hook.getPackageClasses( classLoader, pack, next );
+			}
+			for ( String className : scanner.get() ) {
+				addClass( archive, classLoader, className );
+			}
+		}
+	}
+
+	protected void processClasses(Archive<?> archive) {
 		if ( classes == null ) {
 			return;
 		}
 
+		ClassLoader classLoader = getClassLoader();
+
 		for ( String clazz : classes ) {
 			if ( testClazz.getName().equals( clazz ) ) {
 				continue;
 			}
 
-			archive.addClass( clazz );
+			addClass( archive, classLoader, clazz );
+		}
+	}
+
+	private void addClass(Archive<?> archive, ClassLoader classLoader, String className) {
+		Supplier<JavaArchive> layerBuilder = () -> ShrinkWrap.create( JavaArchive.class ).addClass( className, classLoader );
+		for ( ArchiveHook hook : getHooks() ) {
+			Supplier<JavaArchive> next = layerBuilder;
+			layerBuilder = () -> hook.getClassLayer( classLoader, className, next );
 		}
+		archive.merge( layerBuilder.get(), getClassesPath() );
+	}
+
+	private static List<String> scanPackage(ClassLoader classLoader, String pack) {
+		final List<String> classNames = new ArrayList<>();
+
+		final URLPackageScanner.Callback callback = new URLPackageScanner.Callback() {
+			@Override
+			public void classFound(String className) {
+				classNames.add( className );
+			}
+		};
+
+		final URLPackageScanner scanner = URLPackageScanner.newInstance(
+				false,
+				classLoader,
+				callback,
+				pack
+		);
+		scanner.scanPackage();
+
+		return classNames;
+	}
+
+	/**
+	 * @return the enabled archive hooks, looked up with the service loader of the class loader of this class
+	 */
+	private static List<ArchiveHook> getHooks() {
+		if ( hooks == null ) {
+			List<ArchiveHook> enabledHooks = new ArrayList<>();
+			for ( ArchiveHook hook : ServiceLoader.load( ArchiveHook.class, ArchiveBuilder.class.getClassLoader() ) ) {
+				if ( hook.isEnabled() ) {
+					enabledHooks.add( hook );
+				}
+			}
+			hooks = Collections.unmodifiableList( enabledHooks );
+		}
+		return hooks;
+	}
+
+	private ClassLoader getClassLoader() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+		if ( classLoader == null ) {
+			classLoader = getClass().getClassLoader();
+		}
+
+		return classLoader;
 	}
 
 	protected void processResources(ResourceContainer<?> archive) {
@@ -0,0 +1,102 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.ClassAsset;
+import org.jboss.shrinkwrap.api.asset.ClassLoaderAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+/**
+ * Caches the parts of the test archives which are shared between deployments, so that the about 200 deployments of
+ * the TCK do not scan the same packages and classes over and over again.
+ * <p>
+ * Three levels are cached:
+ * <ul>
+ * <li>the class names found when scanning a package,</li>
+ * <li>for each class, a layer containing the class and its inner classes (adding a class to a ShrinkWrap archive scans
+ * its package for the inner classes): the layers of the helper classes added to each deployment by
+ * {@code AbstractTCKTest} form the common base of all the test archives,</li>
+ * <li>the built archives, keyed on all the inputs of the builder.</li>
+ * </ul>
+ * The cached archives are never handed out: the layers are merged into the archive being built and the builders
+ * return a copy of the cached archive, so that the caller (e.g. Arquillian when packaging the deployment) is free to
+ * modify it. This is safe because the assets of the cached archives (classes, files and strings) are immutable.
+ * <p>
+ * The cache is the {@link ArchiveHook} of the TCK, always enabled. The caches are held per class loader, which is only weakly referenced. The keys are made of names and values rather
+ * than of classes, and the classes and resources of the cached archives are read into byte arrays instead of being
+ * loaded from the class loader on demand, so that the cached entries do not keep the class loader reachable.
+ */
+public final class ArchiveCache implements ArchiveHook {
+
+	private static final Map<ClassLoader, Caches> caches = Collections.synchronizedMap( new WeakHashMap<>() );
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public List<String> getPackageClasses(ClassLoader classLoader, String packageName, Supplier<List<String>> scanner) {
+		return getCaches( classLoader ).packageClasses.computeIfAbsent(
+				packageName,
+				k -> Collections.unmodifiableList( new ArrayList<>( scanner.get() ) )
+		);
+	}
+
+	@Override
+	public JavaArchive getClassLayer(ClassLoader classLoader, String className, Supplier<JavaArchive> layerBuilder) {
+		return getCaches( classLoader ).classLayers.computeIfAbsent( className, k -> detach( layerBuilder.get() ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <A extends Archive<A>> A getArchive(ClassLoader classLoader, List<Object> inputs, Supplier<A> builder) {
+		return (A) getCaches( classLoader ).archives.computeIfAbsent( inputs, k -> detach( builder.get() ) );
+	}
+
+	private static Caches getCaches(ClassLoader classLoader) {
+		return caches.computeIfAbsent( classLoader, k -> new Caches() );
+	}
+
+	/**
+	 * Replaces the assets of the given archive loaded from a class loader by their content.
+	 */
+	private static <A extends Archive<A>> A detach(A archive) {
+		for ( Node node : new ArrayList<>( archive.getContent().values() ) ) {
+			Asset asset = node.getAsset();
+			if ( asset instanceof ClassLoaderAsset || asset instanceof ClassAsset ) {
+				archive.add( new ByteArrayAsset( asset.openStream() ), node.getPath() );
+			}
+		}
+		return archive;
+	}
+
+	/**
+	 * The caches of a class loader.
+	 */
+	private static class Caches {
+
+		private final ConcurrentMap<String, List<String>> packageClasses = new ConcurrentHashMap<>();
+
+		private final ConcurrentMap<String, JavaArchive> classLayers = new ConcurrentHashMap<>();
+
+		private final ConcurrentMap<List<Object>, Archive<?>> archives = new ConcurrentHashMap<>();
+	}
+}
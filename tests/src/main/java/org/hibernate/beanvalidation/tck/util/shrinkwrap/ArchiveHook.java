@@ -0,0 +1,63 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+/**
+ * Optional hook of the archive building, looked up by {@link ArchiveBuilder} with the service loader where the
+ * archives are built, i.e. on the client side. Only the enabled hooks are kept.
+ * <p>
+ * Each method is given the way to do its work without the hook, which the hook may use or bypass. The archives
+ * returned by the hooks must not be modified, the builder returning copies of them.
+ */
+public interface ArchiveHook {
+
+	/**
+	 * @return {@code true} if this hook is enabled
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @return the names of the classes of the given package, as returned by the given scanner
+	 */
+	default List<String> getPackageClasses(ClassLoader classLoader, String packageName, Supplier<List<String>> scanner) {
+		return scanner.get();
+	}
+
+	/**
+	 * @return an archive containing the given class and its inner classes, as returned by the given layer builder
+	 */
+	default JavaArchive getClassLayer(ClassLoader classLoader, String className, Supplier<JavaArchive> layerBuilder) {
+		return layerBuilder.get();
+	}
+
+	/**
+	 * @param inputs the inputs of the builder, which do not reference the given class loader or its classes
+	 *
+	 * @return the archive built from the given inputs, as returned by the given builder
+	 */
+	default <A extends Archive<A>> A getArchive(ClassLoader classLoader, List<Object> inputs, Supplier<A> builder) {
+		return builder.get();
+	}
+
+	/**
+	 * @param resourceInputs the inputs of the builder, except the classes of the archive
+	 * @param archive the archive of the given test class, which does not contain any configuration
+	 *
+	 * @return the archive to deploy for the given test class instead of the given archive, or the given archive
+	 */
+	default <A extends Archive<A>> A getSuiteArchive(List<Object> resourceInputs, Class<?> testClass, A archive,
+			Function<String, A> archiveFactory) {
+		return archive;
+	}
+}
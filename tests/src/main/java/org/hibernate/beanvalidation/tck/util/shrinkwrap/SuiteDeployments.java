@@ -0,0 +1,211 @@
+/**
+ * Jakarta Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.hibernate.beanvalidation.tck.util.HarnessHook;
+import org.hibernate.beanvalidation.tck.util.HarnessHooks;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Merges the deployments of the test classes in suite mode.
+ * <p>
+ * Deploying an archive per test class is cheap in the standalone container but dominates the execution time of the
+ * TCK in an application server. In suite mode, enabled by setting the {@code suiteMode} system property to
+ * {@code true}, the archives which do not contain any configuration (no {@code validation.xml}, no service providers,
+ * no {@code beans.xml}) and which are built from the same resources are merged into a single archive by this
+ * {@link ArchiveHook}. The test
+ * classes sharing a merged archive are deployed together once (see {@link SuiteDeploymentExtension}).
+ * <p>
+ * The merged archives are built the first time a mergeable archive is requested, by invoking the deployment methods
+ * of all the test classes of the TCK.
+ */
+public final class SuiteDeployments implements ArchiveHook {
+
+	private static final Logger log = Logger.getLogger( SuiteDeployments.class.getName() );
+
+	/**
+	 * Name of the system property enabling the suite mode.
+	 */
+	public static final String SUITE_MODE_PROPERTY = "suiteMode";
+
+	private static final String TESTS_PACKAGE = "org.hibernate.beanvalidation.tck.tests";
+
+	private static final String SUITE_ARCHIVE_NAME_PREFIX = "tck-suite-";
+
+	/**
+	 * The mergeable archives built while collecting the deployments of the test classes, by resource inputs.
+	 */
+	private static final ThreadLocal<Map<List<Object>, ArchiveGroup>> collectedArchives = new ThreadLocal<>();
+
+	private static volatile Map<List<Object>, SuiteArchive> suiteArchives;
+
+	@Override
+	public boolean isEnabled() {
+		return Boolean.getBoolean( SUITE_MODE_PROPERTY );
+	}
+
+	/**
+	 * @param archiveName the name of an archive
+	 *
+	 * @return {@code true} if the given archive is a merged archive
+	 */
+	public static boolean isSuiteArchive(String archiveName) {
+		return archiveName != null && archiveName.startsWith( SUITE_ARCHIVE_NAME_PREFIX );
+	}
+
+	/**
+	 * @return the merged archive containing the given archive, or the given archive if it is not merged with other
+	 * archives
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <A extends Archive<A>> A getSuiteArchive(List<Object> resourceInputs, Class<?> testClass, A archive,
+			Function<String, A> archiveFactory) {
+		Map<List<Object>, ArchiveGroup> collected = collectedArchives.get();
+		if ( collected != null ) {
+			collected.computeIfAbsent( resourceInputs, k -> new ArchiveGroup( archiveFactory ) ).add( testClass, archive );
+			return archive;
+		}
+
+		SuiteArchive suiteArchive = getSuiteArchives( testClass.getClassLoader() ).get( resourceInputs );
+		if ( suiteArchive == null || !suiteArchive.testClassNames.contains( testClass.getName() ) ) {
+			return archive;
+		}
+
+		return (A) suiteArchive.archive;
+	}
+
+	private static Map<List<Object>, SuiteArchive> getSuiteArchives(ClassLoader classLoader) {
+		if ( suiteArchives == null ) {
+			synchronized ( SuiteDeployments.class ) {
+				if ( suiteArchives == null ) {
+					long start = HarnessHooks.start();
+					try {
+						suiteArchives = createSuiteArchives( classLoader );
+					}
+					finally {
+						HarnessHooks.stop( HarnessHook.Phase.SUITE_ARCHIVE_BUILD, start );
+					}
+				}
+			}
+		}
+		return suiteArchives;
+	}
+
+	private static Map<List<Object>, SuiteArchive> createSuiteArchives(ClassLoader classLoader) {
+		Map<List<Object>, ArchiveGroup> collected = new LinkedHashMap<>();
+		collectedArchives.set( collected );
+		try {
+			List<String> classNames = new ArrayList<>();
+			URLPackageScanner.newInstance( true, classLoader, classNames::add, TESTS_PACKAGE ).scanPackage();
+
+			for ( String className : classNames ) {
+				invokeDeploymentMethods( classLoader, className );
+			}
+		}
+		finally {
+			collectedArchives.remove();
+		}
+
+		Map<List<Object>, SuiteArchive> suiteArchives = new LinkedHashMap<>();
+		int testClassCount = 0;
+		for ( Map.Entry<List<Object>, ArchiveGroup> group : collected.entrySet() ) {
+			if ( group.getValue().testClassNames.size() > 1 ) {
+				SuiteArchive suiteArchive = group.getValue().merge( SUITE_ARCHIVE_NAME_PREFIX + suiteArchives.size() );
+				suiteArchives.put( group.getKey(), suiteArchive );
+				testClassCount += suiteArchive.testClassNames.size();
+			}
+		}
+
+		log.info( "Suite mode: merged the deployments of " + testClassCount + " test classes into " + suiteArchives.size() + " archives" );
+
+		return Collections.unmodifiableMap( suiteArchives );
+	}
+
+	private static void invokeDeploymentMethods(ClassLoader classLoader, String className) {
+		Method[] methods;
+		try {
+			methods = Class.forName( className, false, classLoader ).getDeclaredMethods();
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			// the class cannot be loaded in this environment (e.g. a JavaFX test), it keeps its own deployment
+			return;
+		}
+
+		for ( Method method : methods ) {
+			if ( method.isAnnotationPresent( Deployment.class ) && Modifier.isStatic( method.getModifiers() )
+					&& method.getParameterCount() == 0 ) {
+				try {
+					method.setAccessible( true );
+					method.invoke( null );
+				}
+				catch (IllegalAccessException | InvocationTargetException e) {
+					throw new RuntimeException( "Unable to build the deployment of " + className, e );
+				}
+			}
+		}
+	}
+
+	/**
+	 * The mergeable archives built from the same resource inputs.
+	 */
+	private static class ArchiveGroup {
+
+		private final Function<String, ? extends Archive<?>> archiveFactory;
+
+		private final Set<String> testClassNames = new HashSet<>();
+
+		private final List<Archive<?>> archives = new ArrayList<>();
+
+		private ArchiveGroup(Function<String, ? extends Archive<?>> archiveFactory) {
+			this.archiveFactory = archiveFactory;
+		}
+
+		private void add(Class<?> testClass, Archive<?> archive) {
+			testClassNames.add( testClass.getName() );
+			archives.add( archive );
+		}
+
+		private SuiteArchive merge(String baseName) {
+			String archiveName = archives.get( 0 ).getName();
+			Archive<?> suiteArchive = archiveFactory.apply( baseName + archiveName.substring( archiveName.lastIndexOf( '.' ) ) );
+			for ( Archive<?> archive : archives ) {
+				suiteArchive.merge( archive );
+			}
+			return new SuiteArchive( suiteArchive, testClassNames );
+		}
+	}
+
+	/**
+	 * A merged archive and the test classes it has been built for.
+	 */
+	private static class SuiteArchive {
+
+		private final Archive<?> archive;
+
+		private final Set<String> testClassNames;
+
+		private SuiteArchive(Archive<?> archive, Set<String> testClassNames) {
+			this.archive = archive;
+			this.testClassNames = Collections.unmodifiableSet( testClassNames );
+		}
+	}
+}
@@ -24,14 +24,20 @@ package org.hibernate.beanvalidation.tck.util.shrinkwrap;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
@@ -43,6 +49,11 @@ import java.util.zip.ZipFile;
  * <p>
  * This class used to be imported from Shrinkwrap and used in the TCK. As it is an internal API, it is subject to change
  * so we internalized it as part of BVTCK-192.
+ * <p>
+ * The classes of each classpath root (directory or archive) containing a scanned package are indexed by package the
+ * first time the root is scanned, the roots being indexed in parallel. The indexes are kept for the lifetime of the
+ * JVM, so that the scans of the about 200 test deployments do not read the same roots over and over again. A root which
+ * cannot be read is skipped with a warning and indexed again by the next scan.
  *
  * @author Thomas Heute
  * @author Gavin King
@@ -59,6 +70,13 @@ public class URLPackageScanner {
 	 */
 	private static final String NAME_EMPTY_PACKAGE = "";
 
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	/**
+	 * The immutable class indexes of the classpath roots: for each package, the names of the classes it contains.
+	 */
+	private static final ConcurrentMap<File, Map<String, List<String>>> classIndexes = new ConcurrentHashMap<>();
+
 	private final String packageName;
 
 	private final String packageNamePath;
@@ -106,7 +124,7 @@ public class URLPackageScanner {
 
 	public void scanPackage() {
 		try {
-			Set<String> paths = new HashSet<String>();
+			Set<File> roots = new LinkedHashSet<File>();
 
 			for ( URL url : loadResources( packageNamePath ) ) {
 				String urlPath = url.getFile();
@@ -117,61 +135,63 @@ public class URLPackageScanner {
 				if ( urlPath.indexOf( '!' ) > 0 ) {
 					urlPath = urlPath.substring( 0, urlPath.indexOf( '!' ) );
 				}
-				paths.add( urlPath );
+				roots.add( getRoot( new File( urlPath ) ) );
+			}
+
+			// the roots not indexed yet are indexed in parallel, the callback is then called from the current thread
+			roots.parallelStream()
+					.filter( root -> !classIndexes.containsKey( root ) )
+					.forEach( URLPackageScanner::indexRoot );
+
+			for ( File root : roots ) {
+				Map<String, List<String>> classIndex = classIndexes.get( root );
+				if ( classIndex != null ) {
+					log.fine( "scanning: " + root );
+					handle( classIndex );
+				}
 			}
-			handle( paths );
 		}
 		catch (IOException ioe) {
 			log.log( Level.WARNING, "could not read: " + packageName, ioe );
 		}
-		catch (ClassNotFoundException ioe) {
-			log.log( Level.WARNING, "Class coud not be loaded in package: " + packageName, ioe );
-		}
 	}
 
-	private void handleArchiveByFile(File file) throws IOException, ClassNotFoundException {
-		try {
-			log.fine( "archive: " + file );
-			try ( ZipFile zip = new ZipFile( file ) ) {
-				Enumeration<? extends ZipEntry> entries = zip.entries();
-				while ( entries.hasMoreElements() ) {
-					ZipEntry entry = entries.nextElement();
-					String name = entry.getName();
-					if ( name.startsWith( packageNamePath ) && name.endsWith( ".class" )
-							&& ( addRecursively || !name.substring( packageNamePath.length() + 1 ).contains( "/" ) ) ) {
-						String className = name.replace( "/", "." ).substring( 0, name.length() - ".class".length() );
-						foundClass( className );
-					}
-				}
-			}
+	/**
+	 * @return the classpath root of the given package directory or archive
+	 */
+	private File getRoot(File file) {
+		if ( !file.isDirectory() || packageNamePath.isEmpty() ) {
+			return file;
 		}
-		catch (ZipException e) {
-			throw new RuntimeException( "Error handling file " + file, e );
+
+		File root = file;
+		for ( int i = 0; i < packageNamePath.split( "/" ).length; i++ ) {
+			root = root.getParentFile();
 		}
+		return root;
 	}
 
-	private void handle(Set<String> paths) throws IOException, ClassNotFoundException {
-		for ( String urlPath : paths ) {
-			log.fine( "scanning: " + urlPath );
-			File file = new File( urlPath );
-			if ( file.isDirectory() ) {
-				handle( file, packageName );
-			}
-			else {
-				handleArchiveByFile( file );
+	private void handle(Map<String, List<String>> classIndex) {
+		if ( !addRecursively ) {
+			handle( classIndex.get( packageName ) );
+			return;
+		}
+
+		for ( Map.Entry<String, List<String>> packageClasses : classIndex.entrySet() ) {
+			String indexedPackageName = packageClasses.getKey();
+			if ( packageName.isEmpty() || indexedPackageName.equals( packageName ) || indexedPackageName.startsWith( packageName + "." ) ) {
+				handle( packageClasses.getValue() );
 			}
 		}
 	}
 
-	private void handle(File file, String packageName) throws ClassNotFoundException {
-		for ( File child : file.listFiles() ) {
-			if ( !child.isDirectory() && child.getName().endsWith( ".class" ) ) {
-				final String packagePrefix = packageName.length() > 0 ? packageName + "." : packageName;
-				foundClass( packagePrefix + child.getName().substring( 0, child.getName().lastIndexOf( ".class" ) ) );
-			}
-			else if ( child.isDirectory() && addRecursively ) {
-				handle( child, packageName + "." + child.getName() );
-			}
+	private void handle(List<String> classNames) {
+		if ( classNames == null ) {
+			return;
+		}
+
+		for ( String className : classNames ) {
+			foundClass( className );
 		}
 	}
 
@@ -183,6 +203,77 @@ public class URLPackageScanner {
 		return Collections.list( classLoader.getResources( name ) );
 	}
 
+	/**
+	 * Indexes the given root, outside of the index map as it reads the file system: a root indexed concurrently by
+	 * another scan is indexed twice, the first index being kept.
+	 */
+	private static void indexRoot(File root) {
+		try {
+			classIndexes.putIfAbsent( root, createClassIndex( root ) );
+		}
+		catch (UncheckedIOException e) {
+			log.log( Level.WARNING, "could not read: " + root, e );
+		}
+	}
+
+	private static Map<String, List<String>> createClassIndex(File root) {
+		Map<String, List<String>> classIndex = new HashMap<>();
+		if ( root.isDirectory() ) {
+			indexDirectory( classIndex, root, NAME_EMPTY_PACKAGE );
+		}
+		else {
+			indexArchive( classIndex, root );
+		}
+
+		for ( Map.Entry<String, List<String>> packageClasses : classIndex.entrySet() ) {
+			packageClasses.setValue( Collections.unmodifiableList( packageClasses.getValue() ) );
+		}
+		return Collections.unmodifiableMap( classIndex );
+	}
+
+	private static void indexArchive(Map<String, List<String>> classIndex, File file) {
+		log.fine( "indexing archive: " + file );
+		try ( ZipFile zip = new ZipFile( file ) ) {
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while ( entries.hasMoreElements() ) {
+				String name = entries.nextElement().getName();
+				if ( name.endsWith( CLASS_FILE_EXTENSION ) ) {
+					String className = name.replace( "/", "." ).substring( 0, name.length() - CLASS_FILE_EXTENSION.length() );
+					int packageSeparatorIndex = className.lastIndexOf( '.' );
+					String indexedPackageName = packageSeparatorIndex > 0 ? className.substring( 0, packageSeparatorIndex ) : NAME_EMPTY_PACKAGE;
+					addClass( classIndex, indexedPackageName, className );
+				}
+			}
+		}
+		catch (ZipException e) {
+			throw new RuntimeException( "Error handling file " + file, e );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static void indexDirectory(Map<String, List<String>> classIndex, File directory, String packageName) {
+		File[] children = directory.listFiles();
+		if ( children == null ) {
+			return;
+		}
+
+		final String packagePrefix = packageName.length() > 0 ? packageName + "." : packageName;
+		for ( File child : children ) {
+			if ( !child.isDirectory() && child.getName().endsWith( CLASS_FILE_EXTENSION ) ) {
+				addClass( classIndex, packageName, packagePrefix + child.getName().substring( 0, child.getName().lastIndexOf( CLASS_FILE_EXTENSION ) ) );
+			}
+			else if ( child.isDirectory() ) {
+				indexDirectory( classIndex, child, packagePrefix + child.getName() );
+			}
+		}
+	}
+
+	private static void addClass(Map<String, List<String>> classIndex, String packageName, String className) {
+		classIndex.computeIfAbsent( packageName, p -> new ArrayList<>() ).add( className );
+	}
+
 	/**
 	 * Callback interface for found classes.
 	 *
@@ -9,6 +9,8 @@ package org.hibernate.beanvalidation.tck.util.shrinkwrap;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.ArchivePaths;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.Asset;
 import org.jboss.shrinkwrap.api.asset.EmptyAsset;
@@ -27,6 +29,15 @@ import org.jboss.shrinkwrap.descriptor.api.webcommon30.WebAppVersionType;
  */
 public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArchive> {
 
+	private static final ArchivePath CLASSES_PATH = ArchivePaths.create( "WEB-INF/classes" );
+
+	/**
+	 * The web.xml descriptor is the same for all the archives.
+	 */
+	private static final String WEB_XML = Descriptors.create( WebAppDescriptor.class )
+			.version( WebAppVersionType._3_0 )
+			.exportAsString();
+
 	private List<ResourceDescriptor> webInfResources = null;
 
 	@Override
@@ -36,14 +47,7 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 
 	@Override
 	protected WebArchive buildInternal() {
-		WebArchive webArchive;
-
-		if ( getName() == null ) {
-			webArchive = ShrinkWrap.create( WebArchive.class );
-		}
-		else {
-			webArchive = ShrinkWrap.create( WebArchive.class, getName() );
-		}
+		WebArchive webArchive = createArchive( getName() );
 
 		processPackages( webArchive );
 		processClasses( webArchive );
@@ -51,13 +55,38 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 		processWebInfResources( webArchive );
 		processAdditionalJars( webArchive );
 
-		WebAppDescriptor webAppDescriptor = Descriptors.create( WebAppDescriptor.class )
-				.version( WebAppVersionType._3_0 );
-		webArchive.setWebXML( new StringAsset( webAppDescriptor.exportAsString() ) );
+		webArchive.setWebXML( new StringAsset( WEB_XML ) );
 
 		return webArchive;
 	}
 
+	@Override
+	protected WebArchive createArchive(String name) {
+		if ( name == null ) {
+			return ShrinkWrap.create( WebArchive.class );
+		}
+		else {
+			return ShrinkWrap.create( WebArchive.class, name );
+		}
+	}
+
+	@Override
+	protected List<Object> getResourceInputs() {
+		List<Object> inputs = super.getResourceInputs();
+		inputs.add( getInputs( webInfResources ) );
+		return inputs;
+	}
+
+	@Override
+	protected boolean isMergeable() {
+		return super.isMergeable() && isMergeable( webInfResources );
+	}
+
+	@Override
+	protected ArchivePath getClassesPath() {
+		return CLASSES_PATH;
+	}
+
 	@Override
 	public WebArchiveBuilder withEmptyBeansXml() {
 		return withWebInfResource( EmptyAsset.INSTANCE, "beans.xml" );